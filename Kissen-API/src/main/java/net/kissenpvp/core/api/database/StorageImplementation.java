@@ -100,6 +100,27 @@ public interface StorageImplementation extends Implementation {
      */
     @NotNull Map<String, Object> getStorage(@NotNull String id, @Nullable Duration duration);
 
+    /**
+     * Retrieves a time-bound storage map which is additionally limited in its size.
+     *
+     * <p>Every entry in the returned map is assigned a weight. Plain objects weigh {@code 1}, while collections,
+     * maps and arrays weigh {@code 1} plus their amount of elements. As soon as the total weight of the storage
+     * exceeds {@code maxWeight}, the least recently used entries are evicted. Evicted entries are only softly
+     * referenced afterward, meaning they can still be returned as long as the garbage collector has not reclaimed
+     * them.
+     *
+     * <p>The weight limit is applied when the storage is created, later calls with a different limit for the same
+     * ID return the existing storage unchanged.
+     *
+     * @param id        the ID of the storage to retrieve.
+     * @param duration  the duration after which the storage expires, or {@code null} if it does not expire.
+     * @param maxWeight the maximum total weight of the entries kept in memory.
+     * @return a size-bounded {@code Map<String, Object>} holding the contents of the requested storage.
+     * @throws IllegalArgumentException if {@code maxWeight} is smaller than {@code 1}.
+     * @see #getStorage(String, Duration)
+     */
+    @NotNull Map<String, Object> getStorage(@NotNull String id, @Nullable Duration duration, int maxWeight);
+
     /**
      * Drops the stored data associated with the specified ID.
      *
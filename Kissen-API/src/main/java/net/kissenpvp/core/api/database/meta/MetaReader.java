@@ -791,6 +791,77 @@ public interface MetaReader extends Serializable {
     @NotNull
     QuerySelect.RootQuerySelect select(@NotNull Column... columns);
 
+    /**
+     * Creates a select query returning each distinct value of the given column once.
+     *
+     * <p>Only the given column is read, so enumerating the total IDs or keys of a table never transfers or
+     * deserializes the stored values. The rows of the query contain a single element, the distinct value.
+     *
+     * <pre>
+     * {@code
+     * Object[][] ids = meta.selectDistinct(Column.TOTAL_ID).where(Column.TOTAL_ID, "^user_").execute().join();
+     * }
+     * </pre>
+     *
+     * @param column the column whose distinct values are selected, either {@link Column#TOTAL_ID} or
+     *               {@link Column#KEY}.
+     * @return a {@link QuerySelect.RootQuerySelect} selecting the distinct values of the column.
+     * @throws IllegalArgumentException if the column is {@link Column#VALUE}.
+     * @see #select(Column...)
+     */
+    @NotNull
+    QuerySelect.RootQuerySelect selectDistinct(@NotNull Column column);
+
+    /**
+     * Computes the greatest numeric value stored behind the given key across all objects.
+     *
+     * <p>The value is computed by the database, so no row is transferred. Values which are not numbers are ignored.
+     *
+     * @param key the key whose values are compared.
+     * @return a CompletableFuture completing with the greatest value, or {@code null} if no numeric value is stored.
+     */
+    @NotNull CompletableFuture<Double> max(@NotNull String key);
+
+    /**
+     * Computes the smallest numeric value stored behind the given key across all objects.
+     *
+     * <p>The value is computed by the database, so no row is transferred. Values which are not numbers are ignored.
+     *
+     * @param key the key whose values are compared.
+     * @return a CompletableFuture completing with the smallest value, or {@code null} if no numeric value is stored.
+     */
+    @NotNull CompletableFuture<Double> min(@NotNull String key);
+
+    /**
+     * Computes the sum of the numeric values stored behind the given key across all objects.
+     *
+     * <p>The value is computed by the database, so no row is transferred. Values which are not numbers are ignored.
+     *
+     * @param key the key whose values are summed up.
+     * @return a CompletableFuture completing with the sum, which is {@code 0} if no numeric value is stored.
+     */
+    @NotNull CompletableFuture<Double> sum(@NotNull String key);
+
+    /**
+     * Retrieves the objects with the greatest numeric values stored behind the given key, as used by leaderboards.
+     *
+     * <p>The values are sorted and limited by the database, so at most {@code n} rows are transferred regardless of the
+     * amount of objects. Values which are not numbers are ignored.
+     *
+     * <pre>
+     * {@code
+     * meta.topN("kills", 10).thenAccept(top -> top.forEach((totalId, kills) -> ...));
+     * }
+     * </pre>
+     *
+     * @param key the key whose values are compared.
+     * @param n   the maximum amount of objects to return.
+     * @return a CompletableFuture completing with an unmodifiable map of the total IDs to their values, which iterates
+     * in descending order of the values.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    @NotNull CompletableFuture<@Unmodifiable Map<@NotNull String, @NotNull Double>> topN(@NotNull String key, int n);
+
     /**
      * Retrieves the data associated with the object identified by the specified total ID.
      *
@@ -805,6 +876,21 @@ public interface MetaReader extends Serializable {
      */
     @NotNull CompletableFuture<SavableMap> getData(@NotNull String totalId);
 
+    /**
+     * Retrieves the data associated with the objects identified by the specified total IDs.
+     *
+     * <p>Unlike calling {@link #getData(String)} for each ID, the rows of all objects are fetched together and grouped
+     * by their total ID afterward, which reduces the number of round trips to the database from one per object to
+     * one per batch of IDs.
+     * The returned map contains an entry for each requested total ID. Objects without any data are mapped to an empty
+     * SavableMap.
+     *
+     * @param totalIds the total IDs of the objects for which the data will be retrieved.
+     * @return an unmodifiable map of the total IDs to the SavableMap objects containing their data.
+     * @see #getData(String)
+     */
+    @NotNull CompletableFuture<@Unmodifiable Map<@NotNull String, @NotNull SavableMap>> getData(@NotNull Collection<String> totalIds);
+
     /**
      * Retrieves the data associated with the specified Savable object.
      *
@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The MetaWriter interface represents a writer for storing meta values in a database.
@@ -794,6 +795,53 @@ public interface MetaWriter extends Serializable {
     @NotNull
     QueryUpdate.RootQueryUpdate update(@NotNull Update... update);
 
+    /**
+     * Replaces the value associated with the specified {@code totalId} and {@code key}, but only if it currently
+     * equals {@code expected}.
+     *
+     * <p>The comparison and the write are executed as a single conditional update on the database, meaning no other
+     * write can slip in between them. This allows callers to implement optimistic concurrency without reading the
+     * value first and writing it back afterward.
+     *
+     * <p>The stored value must have the same type as {@code expected} as well, so a stored {@code 5L} does not equal
+     * an expected {@code 5} although both are stored as the same JSON number.
+     *
+     * <p>Example usage:
+     *
+     * <pre>
+     * {@code
+     * meta.compareAndSet(uuid, "state", "pending", "accepted").thenAccept(changed -> {
+     *     if (!changed) {
+     *         // someone else changed the state in the meantime
+     *     }
+     * });
+     * }
+     * </pre>
+     *
+     * @param totalId  the ID of the meta holding the value.
+     * @param key      the key of the value to replace.
+     * @param expected the value which is expected to be stored currently.
+     * @param newValue the value to store if the current value equals {@code expected}.
+     * @return a {@link CompletableFuture} completing with {@code true} if the value has been replaced, {@code false}
+     * if the stored value did not equal {@code expected} or no value was stored at all.
+     */
+    @NotNull CompletableFuture<Boolean> compareAndSet(@NotNull String totalId, @NotNull String key, @NotNull Object expected, @NotNull Object newValue);
+
+    /**
+     * Atomically adds {@code delta} to the numeric value associated with the specified {@code totalId} and
+     * {@code key}.
+     *
+     * <p>The addition is executed by the database itself, so concurrent increments from multiple servers never
+     * overwrite each other. If no value is stored yet, the value is created with {@code delta} as its initial value.
+     *
+     * @param totalId the ID of the meta holding the value.
+     * @param key     the key of the value to increment.
+     * @param delta   the amount to add, which may be negative to decrement the value.
+     * @return a {@link CompletableFuture} completing once the value has been incremented. It completes exceptionally
+     * with an {@link IllegalStateException} if the stored value is not numeric.
+     */
+    @NotNull CompletableFuture<Void> increment(@NotNull String totalId, @NotNull String key, long delta);
+
     /**
      * Adds data to the object with the specified ID.
      *
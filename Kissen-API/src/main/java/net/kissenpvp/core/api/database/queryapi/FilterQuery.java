@@ -65,4 +65,11 @@ public interface FilterQuery {
      * combining this filter with others in the query, should not be {@code null}.
      */
     @NotNull FilterOperator getFilterOperator();
+
+    /**
+     * Gets the way the value of this filter is compared with the column.
+     *
+     * @return The {@link FilterType} of this filter, {@link FilterType#MATCHES} for regular expression filters.
+     */
+    @NotNull FilterType getFilterType();
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package net.kissenpvp.core.api.database.queryapi;
+
+/**
+ * The {@code FilterType} enumeration defines how the value of a {@link FilterQuery} is compared with the column.
+ *
+ * <ul>
+ * <li>{@code MATCHES} treats the value as regular expression which is searched in the column.
+ * <li>{@code EQUALS} compares the stored value with the given object, which is serialized the same way values are
+ * stored. It only applies to {@link Column#VALUE}.
+ * <li>{@code CONTAINS} checks whether the stored collection contains the given element. It only applies to
+ * {@link Column#VALUE}.
+ * <li>{@code IN} checks whether the column equals one of the given strings. It only applies to {@link Column#TOTAL_ID}
+ * and {@link Column#KEY}, and its value is a non-empty collection of strings.
+ * </ul>
+ *
+ * <p> Unlike {@code MATCHES}, the typed filters are compared against the stored JSON document instead of its text, so
+ * the database can use expression indexes on them.
+ */
+public enum FilterType {
+    MATCHES, EQUALS, CONTAINS, IN
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.api.database.queryapi;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@code OrderQuery} interface defines a sort condition of a select query.
+ *
+ * <p>Multiple order queries are applied in the order they were added, meaning the first one is the primary sort
+ * criteria, while the following ones are only considered for rows which are equal in the previous ones.
+ *
+ * <p>Note that values are sorted by their serialized representation, which is why sorting by {@link Column#VALUE}
+ * is lexicographical.
+ */
+public interface OrderQuery {
+
+    /**
+     * Gets the column the results are sorted by.
+     *
+     * @return the column to sort by, not {@code null}.
+     */
+    @NotNull Column getColumn();
+
+    /**
+     * Gets the direction in which the results are sorted.
+     *
+     * @return the {@link SortDirection} of this condition, not {@code null}.
+     */
+    @NotNull SortDirection getDirection();
+}
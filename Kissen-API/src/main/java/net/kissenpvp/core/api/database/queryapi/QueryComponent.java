@@ -20,6 +20,8 @@ package net.kissenpvp.core.api.database.queryapi;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 /**
  * The QueryComponent interface defines contract for creating query components
  * and chaining them together to generate complex queries. A QueryComponent
@@ -54,4 +56,60 @@ public interface QueryComponent<T extends QueryComponent<?>> {
 
     @NotNull
     T andExact(@NotNull Column column, @NotNull String value);
+
+    /**
+     * Adds a filter matching rows whose value equals the given object, linked with {@code OR}.
+     *
+     * @param value the object the stored value must equal.
+     * @return this component, for chaining.
+     * @see FilterType#EQUALS
+     */
+    @NotNull T orValueEquals(@NotNull Object value);
+
+    /**
+     * Adds a filter matching rows whose value equals the given object, linked with {@code AND}.
+     *
+     * @param value the object the stored value must equal.
+     * @return this component, for chaining.
+     * @see FilterType#EQUALS
+     */
+    @NotNull T andValueEquals(@NotNull Object value);
+
+    /**
+     * Adds a filter matching rows whose collection value contains the given element, linked with {@code OR}.
+     *
+     * @param element the element the stored collection must contain.
+     * @return this component, for chaining.
+     * @see FilterType#CONTAINS
+     */
+    @NotNull T orValueContains(@NotNull Object element);
+
+    /**
+     * Adds a filter matching rows whose collection value contains the given element, linked with {@code AND}.
+     *
+     * @param element the element the stored collection must contain.
+     * @return this component, for chaining.
+     * @see FilterType#CONTAINS
+     */
+    @NotNull T andValueContains(@NotNull Object element);
+
+    /**
+     * Adds a filter matching rows whose column equals one of the given strings, linked with {@code OR}.
+     *
+     * @param column the column to compare, either {@link Column#TOTAL_ID} or {@link Column#KEY}.
+     * @param values the strings the column may equal, must not be empty.
+     * @return this component, for chaining.
+     * @see FilterType#IN
+     */
+    @NotNull T orIn(@NotNull Column column, @NotNull Collection<String> values);
+
+    /**
+     * Adds a filter matching rows whose column equals one of the given strings, linked with {@code AND}.
+     *
+     * @param column the column to compare, either {@link Column#TOTAL_ID} or {@link Column#KEY}.
+     * @param values the strings the column may equal, must not be empty.
+     * @return this component, for chaining.
+     * @see FilterType#IN
+     */
+    @NotNull T andIn(@NotNull Column column, @NotNull Collection<String> values);
 }
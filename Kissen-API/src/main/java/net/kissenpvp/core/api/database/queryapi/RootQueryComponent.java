@@ -20,6 +20,8 @@ package net.kissenpvp.core.api.database.queryapi;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 /**
  * The RootQueryComponent interface expands upon the {@link QueryComponent} interface by
  * providing functionality of a root query. This interface is intended for use with types
@@ -38,4 +40,38 @@ public interface RootQueryComponent<T extends QueryComponent<?>> {
     @NotNull T where(@NotNull Column column, @NotNull Object value);
 
     @NotNull T whereExact(@NotNull Column column, @NotNull String value);
+
+    /**
+     * Starts the query with a filter matching rows whose value equals the given object.
+     *
+     * <p> The object is serialized the same way values are stored and compared with the stored JSON document, which
+     * avoids matching the serialized text with a regular expression.
+     *
+     * @param value the object the stored value must equal.
+     * @return the query, for chaining.
+     * @see FilterType#EQUALS
+     */
+    @NotNull T whereValueEquals(@NotNull Object value);
+
+    /**
+     * Starts the query with a filter matching rows whose collection value contains the given element.
+     *
+     * @param element the element the stored collection must contain.
+     * @return the query, for chaining.
+     * @see FilterType#CONTAINS
+     */
+    @NotNull T whereValueContains(@NotNull Object element);
+
+    /**
+     * Starts the query with a filter matching rows whose column equals one of the given strings.
+     *
+     * <p> The strings are compared exactly, which allows loading the rows of many entities with a single query
+     * instead of one query per entity.
+     *
+     * @param column the column to compare, either {@link Column#TOTAL_ID} or {@link Column#KEY}.
+     * @param values the strings the column may equal, must not be empty.
+     * @return the query, for chaining.
+     * @see FilterType#IN
+     */
+    @NotNull T whereIn(@NotNull Column column, @NotNull Collection<String> values);
 }
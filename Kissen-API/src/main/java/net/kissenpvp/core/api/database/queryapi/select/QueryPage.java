@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package net.kissenpvp.core.api.database.queryapi.select;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A single page of a select query which has been executed using cursor pagination.
+ *
+ * <p>The rows of a page are ordered by their total id and key. The continuation token points behind the last row of
+ * this page and can be passed to {@link QuerySelect#after(String)} to fetch the next page. As the next page starts
+ * right behind the given row instead of skipping all previous rows, fetching a page takes the same time no matter how
+ * far the caller has paged already.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * String cursor = null;
+ * do {
+ *     QueryPage page = meta.select(Column.TOTAL_ID).after(cursor).limit(50).executePage().join();
+ *     // process page.getRows()
+ *     cursor = page.getContinuation();
+ * } while (cursor != null);
+ * }</pre>
+ *
+ * @see QuerySelect#executePage()
+ */
+public interface QueryPage {
+
+    /**
+     * Gets the rows of this page in the same format as {@link QuerySelect#execute()} returns them.
+     *
+     * @return the rows of this page, which is empty if no rows are left.
+     */
+    @NotNull Object[][] getRows();
+
+    /**
+     * Gets the opaque token pointing behind the last row of this page.
+     *
+     * <p>The content of the token is not part of the API and may change, it should only be passed to
+     * {@link QuerySelect#after(String)} of a query with the same filters.
+     *
+     * @return the token to fetch the next page with, or {@code null} if this is the last page.
+     */
+    @Nullable String getContinuation();
+
+    /**
+     * Checks whether another page follows this one.
+     *
+     * @return {@code true} if {@link #getContinuation()} returns a token.
+     */
+    default boolean hasNext() {
+        return Objects.nonNull(getContinuation());
+    }
+}
@@ -19,11 +19,16 @@
 package net.kissenpvp.core.api.database.queryapi.select;
 
 import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.OrderQuery;
 import net.kissenpvp.core.api.database.queryapi.QueryComponent;
 import net.kissenpvp.core.api.database.queryapi.RootQueryComponent;
+import net.kissenpvp.core.api.database.queryapi.SortDirection;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 /**
  * The {@code QuerySelect} interface provides a contract for creating and executing
@@ -44,6 +49,87 @@ public interface QuerySelect extends QueryComponent<QuerySelect> {
      */
     @NotNull Column[] getColumns();
 
+    /**
+     * Checks whether this query only returns distinct values of its column.
+     *
+     * @return {@code true} if the query has been created by a distinct select.
+     */
+    boolean isDistinct();
+
+    /**
+     * Gets the sort conditions of this query in the order they were added.
+     *
+     * @return an array of {@link OrderQuery} objects, empty if the results are not sorted.
+     */
+    @NotNull OrderQuery[] getOrderQueries();
+
+    /**
+     * Gets the maximum amount of rows this query returns.
+     *
+     * @return the maximum amount of rows, or {@code -1} if the amount is not limited.
+     */
+    int getLimit();
+
+    /**
+     * Gets the amount of rows which are skipped before the first row is returned.
+     *
+     * @return the amount of skipped rows, {@code 0} by default.
+     */
+    int getOffset();
+
+    /**
+     * Gets the continuation token set by {@link #after(String)}.
+     *
+     * @return the token this query continues after, or {@code null} if it starts at the first row.
+     */
+    @Nullable String getCursor();
+
+    /**
+     * Sorts the results by the given column. Calling this method multiple times adds further sort conditions, which
+     * only apply to rows that are equal in the previous ones.
+     *
+     * <p>The sorting is done by the database, which means in combination with {@link #limit(int)} only the required
+     * rows are transferred.
+     *
+     * @param column    the column to sort by.
+     * @param direction the direction to sort in.
+     * @return this query, for chaining.
+     * @throws IllegalArgumentException if the query is distinct and the column is not the selected one.
+     */
+    @NotNull QuerySelect orderBy(@NotNull Column column, @NotNull SortDirection direction);
+
+    /**
+     * Limits the amount of rows this query returns.
+     *
+     * @param limit the maximum amount of rows to return.
+     * @return this query, for chaining.
+     * @throws IllegalArgumentException if the limit is negative.
+     */
+    @NotNull QuerySelect limit(int limit);
+
+    /**
+     * Skips the given amount of rows before the first row is returned. This is usually combined with
+     * {@link #orderBy(Column, SortDirection)} to get stable pages.
+     *
+     * @param offset the amount of rows to skip.
+     * @return this query, for chaining.
+     * @throws IllegalArgumentException if the offset is negative.
+     */
+    @NotNull QuerySelect offset(int offset);
+
+    /**
+     * Continues the query behind the row the given token points to. The token is taken from
+     * {@link QueryPage#getContinuation()} of the previous page.
+     *
+     * <p>This only affects {@link #executePage()}, which orders the rows by their total id and key and uses them to
+     * seek to the next page. Passing {@code null} starts at the first row.
+     *
+     * @param cursor the continuation token of the previous page, or {@code null} to start at the first page.
+     * @return this query, for chaining.
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    @NotNull QuerySelect after(@Nullable String cursor);
+
     /**
      * Executes the select query that has been built and returns the result.
      *
@@ -51,6 +137,72 @@ public interface QuerySelect extends QueryComponent<QuerySelect> {
      */
     @NotNull CompletableFuture<Object[][]> execute();
 
+    /**
+     * Executes the select query as cursor pagination and returns the page following the token set by
+     * {@link #after(String)}, containing at most {@link #getLimit()} rows.
+     *
+     * <p>The rows are ordered by their total id and key, which is why this cannot be combined with
+     * {@link #orderBy(Column, SortDirection)} or {@link #offset(int)}. If no limit is set, all remaining rows are
+     * returned as a single page.
+     *
+     * @return a {@link CompletableFuture} completing with the requested page.
+     * @throws IllegalStateException if sort conditions or an offset are set, the limit is {@code 0} or the query is
+     *                               distinct.
+     * @see QueryPage
+     */
+    @NotNull CompletableFuture<QueryPage> executePage();
+
+    /**
+     * Executes the select query as a stream of rows, which are fetched lazily in batches while the stream is consumed.
+     *
+     * <p>Each batch is a page of {@link #executePage()}, so the same restrictions apply and the rows are ordered by
+     * their total id and key. The batches hold at most {@code 500} rows and the stream ends after the limit of the
+     * query, if one is set. As only one batch is held in memory, tables of any size can be processed with constant
+     * memory. The cursor and limit of this query are not changed by the stream.
+     *
+     * <p>Fetching a batch blocks the thread consuming the stream, so this should not be used on the main thread.
+     *
+     * @return a sequential stream of the rows of the result.
+     * @throws IllegalStateException if sort conditions or an offset are set, the limit is {@code 0} or the query is
+     *                               distinct.
+     * @see #publish()
+     */
+    @NotNull Stream<Object[]> stream();
+
+    /**
+     * Executes the select query as a {@link Flow.Publisher} of rows, which fetches the next batch only when the
+     * subscriber has requested more rows than are left of the current one.
+     *
+     * <p>The rows are fetched the same way as by {@link #stream()}, but without blocking the subscriber. The publisher
+     * can only be subscribed once.
+     *
+     * @return a publisher emitting the rows of the result.
+     * @throws IllegalStateException if sort conditions or an offset are set, the limit is {@code 0} or the query is
+     *                               distinct.
+     * @see #stream()
+     */
+    @NotNull Flow.Publisher<Object[]> publish();
+
+    /**
+     * Counts the rows matching the filters of this query without fetching them.
+     *
+     * <p>The counting is done by the database and no value is deserialized. Sort conditions, the limit and the offset
+     * are ignored. A distinct query counts the distinct values of its column instead of the rows.
+     *
+     * @return a {@link CompletableFuture} completing with the amount of matching rows.
+     */
+    @NotNull CompletableFuture<Long> count();
+
+    /**
+     * Checks whether any row matches the filters of this query without fetching it.
+     *
+     * <p>The database stops searching at the first matching row and no value is deserialized. Sort conditions, the
+     * limit and the offset are ignored.
+     *
+     * @return a {@link CompletableFuture} completing with {@code true} if at least one row matches.
+     */
+    @NotNull CompletableFuture<Boolean> exists();
+
     /**
      * The {@code RootQuerySelect} interface provides a contract for the root of a select query.
      * It extends the {@link RootQueryComponent} interface with {@code QuerySelect} as its
@@ -60,12 +212,90 @@ public interface QuerySelect extends QueryComponent<QuerySelect> {
      * specific database technology in use.
      */
     interface RootQuerySelect extends RootQueryComponent<QuerySelect> {
+
+        /**
+         * Sorts the results of an unfiltered query by the given column.
+         *
+         * @param column    the column to sort by.
+         * @param direction the direction to sort in.
+         * @return the query, for chaining.
+         * @see QuerySelect#orderBy(Column, SortDirection)
+         */
+        @NotNull QuerySelect orderBy(@NotNull Column column, @NotNull SortDirection direction);
+
+        /**
+         * Limits the amount of rows an unfiltered query returns.
+         *
+         * @param limit the maximum amount of rows to return.
+         * @return the query, for chaining.
+         * @see QuerySelect#limit(int)
+         */
+        @NotNull QuerySelect limit(int limit);
+
+        /**
+         * Skips the given amount of rows of an unfiltered query.
+         *
+         * @param offset the amount of rows to skip.
+         * @return the query, for chaining.
+         * @see QuerySelect#offset(int)
+         */
+        @NotNull QuerySelect offset(int offset);
+
+        /**
+         * Continues an unfiltered query behind the row the given token points to.
+         *
+         * @param cursor the continuation token of the previous page, or {@code null} to start at the first page.
+         * @return the query, for chaining.
+         * @see QuerySelect#after(String)
+         */
+        @NotNull QuerySelect after(@Nullable String cursor);
+
         /**
          * Executes the root select query that has been built and returns the result.
          *
          * @return A 2D array of {@link String}, where each inner array represents rows of the result.
          */
         @NotNull CompletableFuture<Object[][]> execute();
+
+        /**
+         * Executes the root select query as cursor pagination.
+         *
+         * @return a {@link CompletableFuture} completing with the requested page.
+         * @see QuerySelect#executePage()
+         */
+        @NotNull CompletableFuture<QueryPage> executePage();
+
+        /**
+         * Executes the root select query as a stream of rows fetched in batches.
+         *
+         * @return a sequential stream of the rows of the result.
+         * @see QuerySelect#stream()
+         */
+        @NotNull Stream<Object[]> stream();
+
+        /**
+         * Executes the root select query as a publisher of rows fetched in batches.
+         *
+         * @return a publisher emitting the rows of the result.
+         * @see QuerySelect#publish()
+         */
+        @NotNull Flow.Publisher<Object[]> publish();
+
+        /**
+         * Counts all rows of an unfiltered query without fetching them.
+         *
+         * @return a {@link CompletableFuture} completing with the amount of rows.
+         * @see QuerySelect#count()
+         */
+        @NotNull CompletableFuture<Long> count();
+
+        /**
+         * Checks whether an unfiltered query has any row without fetching it.
+         *
+         * @return a {@link CompletableFuture} completing with {@code true} if at least one row exists.
+         * @see QuerySelect#exists()
+         */
+        @NotNull CompletableFuture<Boolean> exists();
     }
 
 }
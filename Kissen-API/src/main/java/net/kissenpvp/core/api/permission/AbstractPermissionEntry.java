@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 
 public interface AbstractPermissionEntry<T extends AbstractPermission> {
@@ -49,6 +50,36 @@ public interface AbstractPermissionEntry<T extends AbstractPermission> {
 
     int wipePermissions();
 
+    /**
+     * Applies multiple permission changes to this entry at once.
+     *
+     * <p>The default implementation applies each change right away. Implementations backed by a database collect the
+     * changes and write them once the transaction is complete, which makes importing or resetting many permissions
+     * much cheaper than setting them one by one.
+     *
+     * @param transaction the consumer applying the changes.
+     * @throws EventCancelledException if a change has been cancelled.
+     * @see PermissionTransaction
+     */
+    default void edit(@NotNull Consumer<PermissionTransaction<T>> transaction) throws EventCancelledException {
+        transaction.accept(new PermissionTransaction<>() {
+            @Override
+            public void setPermission(@NotNull String permission, boolean value) {
+                AbstractPermissionEntry.this.setPermission(permission, value);
+            }
+
+            @Override
+            public boolean unsetPermission(@NotNull String permission) {
+                return AbstractPermissionEntry.this.unsetPermission(permission);
+            }
+
+            @Override
+            public int wipePermissions() {
+                return AbstractPermissionEntry.this.wipePermissions();
+            }
+        });
+    }
+
     @NotNull @Unmodifiable Set<T> getPermissionList();
 
     @NotNull Optional<T> getPermission(@NotNull String permission);
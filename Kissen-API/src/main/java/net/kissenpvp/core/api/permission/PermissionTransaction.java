@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.api.permission;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A set of permission changes which are applied to an {@link AbstractPermissionEntry} at once.
+ *
+ * <p>The changes are collected in memory and written in a single operation after the transaction is complete, so
+ * the effective permissions of the entry and its members are only updated once. If the transaction throws an
+ * exception, none of its changes are applied.
+ *
+ * <pre>{@code
+ * group.edit(transaction -> {
+ *     transaction.wipePermissions();
+ *     transaction.setPermission("kissen.command.rank");
+ *     transaction.setPermission("kissen.command.ban", false);
+ * });
+ * }</pre>
+ *
+ * @param <T> the type of the permissions of the entry
+ * @see AbstractPermissionEntry#edit(java.util.function.Consumer)
+ * @since 1.0.0-SNAPSHOT
+ */
+public interface PermissionTransaction<T extends AbstractPermission> {
+
+    /**
+     * Grants the given permission.
+     *
+     * @param permission the name of the permission.
+     */
+    default void setPermission(@NotNull String permission) {
+        setPermission(permission, true);
+    }
+
+    /**
+     * Sets the given permission to the given value, replacing its current value if it is already set.
+     *
+     * @param permission the name of the permission.
+     * @param value      the value of the permission.
+     */
+    void setPermission(@NotNull String permission, boolean value);
+
+    /**
+     * Removes the given permission.
+     *
+     * @param permission the name of the permission.
+     * @return {@code true} if the permission was set before.
+     */
+    boolean unsetPermission(@NotNull String permission);
+
+    /**
+     * Removes all permissions, including the ones set earlier in this transaction.
+     *
+     * @return the number of removed permissions.
+     */
+    int wipePermissions();
+}
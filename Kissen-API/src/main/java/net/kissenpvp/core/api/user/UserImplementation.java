@@ -203,6 +203,9 @@ public interface UserImplementation extends Implementation {
      * <p>When the player is online, their account will be retrieved from the `getOnlineUser(String name)` method,
      * which saves resources. The existence of this method is assumed based on the pattern shown in the `getUser(UUID uuid)` method.
      *
+     * <p>The name is matched ignoring its case. If several online players have names which only differ by case, the one
+     * whose name matches exactly is preferred.
+     *
      * @param name The username of the player to retrieve the user account for.
      * @return The user account, which depends on whether the player is online.
      * @throws BackendException If there is an issue while fetching the user data from the backend.
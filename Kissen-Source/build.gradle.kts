@@ -1,6 +1,10 @@
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+
 plugins {
     java
     `maven-publish`
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 dependencies {
@@ -27,6 +31,12 @@ dependencies {
     testImplementation("net.kyori:adventure-text-minimessage:4.14.0")
     testImplementation("org.mockito:mockito-core:3.12.4")
     testImplementation("org.slf4j:slf4j-api:2.0.1")
+
+    jmh("net.kyori:adventure-text-serializer-gson:4.14.0")
+    jmh("net.kyori:adventure-text-serializer-legacy:4.14.0")
+    jmh("net.kyori:adventure-text-minimessage:4.14.0")
+    jmh("org.slf4j:slf4j-api:2.0.1")
+    jmh("org.jetbrains:annotations:24.0.0")
 }
 
 publishing {
@@ -44,3 +54,74 @@ publishing {
 tasks.test {
     useJUnitPlatform()
 }
+
+jmh {
+    resultFormat.set("JSON")
+    includeTests.set(true) // the benchmarks run on the in-memory implementations of the tests
+    // -PjmhInclude=<regex> runs a subset of the benchmarks
+    project.findProperty("jmhInclude")?.let { includes.set(listOf(it.toString())) }
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("src/jmh/baseline.json")
+
+fun readScores(file: File): Map<String, Double> {
+    val json = JsonSlurper().parse(file)
+    if (json is Map<*, *>) { // the stored baseline
+        return json.entries.associate { it.key.toString() to (it.value as Number).toDouble() }
+    }
+
+    return (json as List<*>).filterIsInstance<Map<*, *>>().associate { result ->
+        val params = (result["params"] as Map<*, *>?)?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+        val score = ((result["primaryMetric"] as Map<*, *>)["score"] as Number).toDouble()
+        "${result["benchmark"]}$params" to score
+    }
+}
+
+tasks.register("jmhBaseline") {
+    group = "benchmark"
+    description = "Runs the benchmarks and stores their results as the baseline for jmhRegression."
+    dependsOn(tasks.named("jmh"))
+    doLast {
+        // benchmarks which have not been run, for example because of -PjmhInclude, keep their previous baseline
+        val previous = if (jmhBaseline.asFile.exists()) readScores(jmhBaseline.asFile) else emptyMap()
+        val scores = (previous + readScores(jmhResults.get().asFile)).toSortedMap()
+        jmhBaseline.asFile.writeText(JsonOutput.prettyPrint(JsonOutput.toJson(scores)) + "\n")
+    }
+}
+
+// the baseline depends on the machine, so it is never committed and has to be recorded locally
+val jmhBaselinePresent = tasks.register("jmhBaselinePresent") {
+    description = "Fails if no benchmark baseline has been recorded on this machine."
+    val baseline = jmhBaseline.asFile
+    doLast {
+        if (!baseline.exists()) {
+            throw GradleException("No benchmark baseline found at $baseline, record one on this machine with jmhBaseline first.")
+        }
+    }
+}
+
+tasks.named("jmh") {
+    mustRunAfter(jmhBaselinePresent)
+}
+
+tasks.register("jmhRegression") {
+    group = "benchmark"
+    description = "Runs the benchmarks and fails if the throughput of one of them dropped below the baseline."
+    dependsOn(jmhBaselinePresent, tasks.named("jmh"))
+    doLast {
+        // -PjmhThreshold=0.3 allows the throughput to drop by 30 percent before failing
+        val threshold = project.findProperty("jmhThreshold")?.toString()?.toDouble() ?: 0.3
+        val baseline = readScores(jmhBaseline.asFile)
+        val regressions = readScores(jmhResults.get().asFile).mapNotNull { (benchmark, score) ->
+            val expected = baseline[benchmark] ?: return@mapNotNull null
+            val minimum = expected * (1 - threshold)
+            if (score < minimum) "$benchmark: %.3f ops/us, expected at least %.3f ops/us (baseline %.3f)".format(score, minimum, expected) else null
+        }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException("Benchmark throughput regressed:\n" + regressions.joinToString("\n"))
+        }
+        logger.lifecycle("No benchmark regressed by more than {}% against the baseline.", (threshold * 100).toInt())
+    }
+}
@@ -0,0 +1,115 @@
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.base.Implementation;
+import net.kissenpvp.core.api.database.StorageImplementation;
+import net.kissenpvp.core.api.user.UserImplementation;
+import net.kissenpvp.core.base.KissenCore;
+import net.kissenpvp.core.base.KissenCoreMock;
+import net.kissenpvp.core.database.savable.KissenStorageImplementation;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cost of permission checks on the effective permissions of a grouped entry.
+ *
+ * <p>The checked entry is a member of a group, which is a member of a nested group. Its own permissions take
+ * precedence over the ones of its group, which take precedence over the ones of the nested group. All of them are
+ * real {@link KissenPermissionGroup groups} of the in-memory {@link PermissionImplementationMock}, so the checks run
+ * through {@link KissenPermissionEntry#hasPermission(String)}, and the snapshot is collected through the group
+ * resolution and the {@link PermissionMembershipIndex}. Their repositories write to a meta which stores nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+    @Param({"100", "10000"})
+    private int permissions;
+
+    private Path directory;
+    private KissenCore core;
+    private TestPermissionGroup entry;
+    private String exact, wildcard, negated, missing;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("kissen-benchmark");
+        PermissionImplementationMock implementation = new PermissionImplementationMock();
+        core = new KissenCoreMock(Map.<Class<? extends Implementation>, Implementation>of(
+                InternalKissenPermissionImplementation.class, implementation,
+                StorageImplementation.class, new KissenStorageImplementation(directory.toFile()),
+                UserImplementation.class, Mockito.mock(UserImplementation.class)));
+
+        TestPermissionGroup nestedGroup = implementation.create("nested");
+        TestPermissionGroup group = implementation.create("group");
+        entry = implementation.create("entry");
+        nestedGroup.addMember(group);
+        group.addMember(entry);
+
+        TestPermissionGroup[] targets = {nestedGroup, group, entry};
+        for (TestPermissionGroup target : targets) {
+            target.edit(transaction -> {
+                // every third permission is inherited from the nested group, the group or set on the entry itself
+                for (int i = target == nestedGroup ? 0 : target == group ? 1 : 2; i < permissions; i += 3) {
+                    transaction.setPermission("kissen.module%d.node%d".formatted(i % 50, i), i % 10 != 0);
+                }
+            });
+        }
+        nestedGroup.setPermission("kissen.module7.*");
+        group.setPermission("kissen.module7.secret?", false);
+        entry.setPermission("worldedit.*");
+
+        int last = permissions - 1;
+        exact = "kissen.module%d.node%d".formatted(last % 50, last);
+        wildcard = "kissen.module7.command.other";
+        negated = "kissen.module7.secret1";
+        missing = "essentials.command.fly";
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        core.shutdown();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public boolean exactCheck() {
+        return entry.hasPermission(exact);
+    }
+
+    @Benchmark
+    public boolean wildcardCheck() {
+        return entry.hasPermission(wildcard);
+    }
+
+    @Benchmark
+    public boolean negatedCheck() {
+        return entry.hasPermission(negated);
+    }
+
+    @Benchmark
+    public boolean missingCheck() {
+        return entry.hasPermission(missing);
+    }
+
+    @Benchmark
+    public void groupedSnapshot(Blackhole blackhole) {
+        entry.permissionUpdate(); // discards the snapshot and the resolved groups of the entry only
+        blackhole.consume(entry.getPermissionSnapshot());
+    }
+}
@@ -45,6 +45,7 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -264,19 +265,24 @@ public abstract class KissenBanImplementation<B extends AbstractBanTemplate, P e
     /**
      * Returns a set of player bans based on the provided parameters.
      *
+     * <p>If a batch of the punishments cannot be fetched, the failure is logged and an empty set is returned, the same
+     * as if no punishment was stored.
+     *
      * @param meta the meta information for executing the query
-     * @return an unmodifiable set of player bans
-     * @ if there is an issue retrieving the player bans from the backend
+     * @return an unmodifiable set of player bans, empty if they could not be fetched
      */
     protected @NotNull @Unmodifiable Set<P> getPunishments(@NotNull Meta meta) {
         QuerySelect querySelect = meta.select(Column.KEY, Column.VALUE).whereExact(Column.TOTAL_ID, "punishment");
-        Object[][] objects = querySelect.execute().exceptionally((t) -> new Object[0][]).join();
-
-        return Arrays.stream(objects).flatMap(data -> {
-            UUID uuid = UUID.fromString(data[0].toString());
-            KissenPunishmentNode[] punishmentNodes = (KissenPunishmentNode[]) data[1];
-            return Arrays.stream(punishmentNodes).map(node -> translatePunishment(uuid, node, meta));
-        }).collect(Collectors.toUnmodifiableSet());
+        try (Stream<Object[]> rows = querySelect.stream()) {
+            return rows.flatMap(data -> {
+                UUID uuid = UUID.fromString(data[0].toString());
+                KissenPunishmentNode[] punishmentNodes = (KissenPunishmentNode[]) data[1];
+                return Arrays.stream(punishmentNodes).map(node -> translatePunishment(uuid, node, meta));
+            }).collect(Collectors.toUnmodifiableSet());
+        } catch (CompletionException exception) {
+            log.error("The punishments could not be fetched from the database.", exception.getCause());
+            return Set.of();
+        }
     }
 
 
@@ -61,7 +61,7 @@ public abstract class KissenBanTemplate extends KissenSavable<Integer> implement
     @Override
     protected @NotNull SavableMap createRepository(@Nullable Map<String, Object> data) {
         Meta meta = KissenCore.getInstance().getImplementation(KissenBanImplementation.class).getMeta();
-        return new KissenSavableMap(getDatabaseID(), meta, Objects.requireNonNullElseGet(data, meta.getData(getDatabaseID())::join));
+        return new KissenSavableMap(getDatabaseID(), meta, Objects.requireNonNullElseGet(data, () -> meta.getData(getDatabaseID()).join()));
     }
 
     @Override
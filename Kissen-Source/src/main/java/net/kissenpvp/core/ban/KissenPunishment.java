@@ -153,7 +153,7 @@ public abstract class KissenPunishment<T> extends KissenTemporalObject implement
     @Override
     public @Unmodifiable Set<UUID> getAffectedPlayers() {
         KissenBanImplementation<?, ?> banSystem = KissenCore.getInstance().getImplementation(KissenBanImplementation.class);
-        QuerySelect select = banSystem.getMeta().select(Column.TOTAL_ID).whereExact(Column.KEY, "total_id").andExact(Column.VALUE, getTotalID().toString());
+        QuerySelect select = banSystem.getMeta().selectDistinct(Column.TOTAL_ID).whereExact(Column.KEY, "total_id").andExact(Column.VALUE, getTotalID().toString());
         KissenUserImplementation userImplementation = KissenCore.getInstance().getImplementation(KissenUserImplementation.class);
         return Arrays.stream(select.execute().join()).map(obj -> {
             String id = String.valueOf(obj[0]).substring(userImplementation.getUserSaveID().length());
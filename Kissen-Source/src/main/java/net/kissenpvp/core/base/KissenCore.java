@@ -140,7 +140,7 @@ public abstract class KissenCore implements Kissen {
         });
     }
 
-    private void startImplementations() throws IOException {
+    protected void startImplementations() throws IOException {
         log.debug("Scan for class scanner entries.");
 
         KissenConfigurationImplementation config = getImplementation(KissenConfigurationImplementation.class);
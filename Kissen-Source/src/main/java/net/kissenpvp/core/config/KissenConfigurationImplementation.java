@@ -28,6 +28,9 @@ import net.kissenpvp.core.api.config.UnregisteredException;
 import net.kissenpvp.core.base.KissenImplementation;
 import net.kissenpvp.core.database.settings.DatabaseDns;
 import net.kissenpvp.core.database.settings.KeepSqliteFile;
+import net.kissenpvp.core.database.settings.SessionFlushInterval;
+import net.kissenpvp.core.database.settings.SessionPersistence;
+import net.kissenpvp.core.database.settings.StorageMaxWeight;
 import net.kissenpvp.core.message.localization.settings.HighlightVariables;
 import net.kissenpvp.core.message.localization.settings.InsertMissingTranslation;
 import org.jetbrains.annotations.NotNull;
@@ -53,6 +56,9 @@ public abstract class KissenConfigurationImplementation implements Configuration
         registerInternalSetting(new InsertMissingTranslation());
         registerInternalSetting(new ServerName());
         registerInternalSetting(new KeepSqliteFile());
+        registerInternalSetting(new StorageMaxWeight());
+        registerInternalSetting(new SessionPersistence());
+        registerInternalSetting(new SessionFlushInterval());
 //        registerInternalSetting(new EnableSSLEncryption());
 //        registerInternalSetting(new ServerCertificateLocation());
 //        registerInternalSetting(new ServerCertificatePassword());
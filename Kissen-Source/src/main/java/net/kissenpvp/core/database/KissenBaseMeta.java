@@ -28,12 +28,16 @@ import net.kissenpvp.core.api.database.meta.Meta;
 import net.kissenpvp.core.api.database.meta.Table;
 import net.kissenpvp.core.api.database.meta.list.MetaList;
 import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.select.QueryPage;
 import net.kissenpvp.core.api.database.queryapi.select.QuerySelect;
 import net.kissenpvp.core.api.database.queryapi.update.QueryUpdate;
 import net.kissenpvp.core.api.database.queryapi.update.Update;
 import net.kissenpvp.core.api.database.savable.Savable;
 import net.kissenpvp.core.api.database.savable.SavableMap;
 import net.kissenpvp.core.base.KissenCore;
+import net.kissenpvp.core.database.queryapi.KissenAggregate;
+import net.kissenpvp.core.database.queryapi.KissenQueryPage;
+import net.kissenpvp.core.database.queryapi.KissenQueryPublisher;
 import net.kissenpvp.core.database.queryapi.KissenQuerySelect;
 import net.kissenpvp.core.database.queryapi.KissenQueryUpdate;
 import net.kissenpvp.core.database.savable.KissenSavableMap;
@@ -45,9 +49,13 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @AllArgsConstructor
 @Getter
@@ -57,6 +65,16 @@ public abstract class KissenBaseMeta implements Meta {
     private static final Gson GSON;
     private static final String UNDEFINED = "_UNDEFINED_";
     private static final String ARRAY_PATTERN = "[L%s;";
+    /**
+     * The maximum amount of total IDs fetched by a single query of {@link #getData(Collection)}, which keeps the
+     * statements below the parameter limits of the supported databases.
+     */
+    private static final int BULK_LOAD_SIZE = 500;
+    /**
+     * The maximum size of the batches fetched by {@link #stream(QuerySelect)} and {@link #publish(QuerySelect)},
+     * independent of the limit of the query.
+     */
+    private static final int STREAM_BATCH_SIZE = 500;
 
     static {
         GSON = GsonComponentSerializer.gson().serializer();
@@ -97,7 +115,7 @@ public abstract class KissenBaseMeta implements Meta {
 
     @Override
     public boolean metaContains(@NotNull String totalID, @NotNull String key) {
-        return !getString(totalID, key).isCompletedExceptionally();
+        return Boolean.TRUE.equals(getDefaultQuery(totalID, key).exists().exceptionally(throwable -> false).join());
     }
 
     @Override
@@ -302,11 +320,45 @@ public abstract class KissenBaseMeta implements Meta {
 
     @Override
     public @NotNull QuerySelect.RootQuerySelect select(@NotNull Column... columns) {
-        return new KissenQuerySelect.KissenRootQuerySelect(columns) {
+        return select(false, columns);
+    }
+
+    @Override
+    public @NotNull QuerySelect.RootQuerySelect selectDistinct(@NotNull Column column) {
+        return select(true, column);
+    }
+
+    private @NotNull QuerySelect.RootQuerySelect select(boolean distinct, @NotNull Column... columns) {
+        return new KissenQuerySelect.KissenRootQuerySelect(distinct, columns) {
             @Override
             public @NotNull CompletableFuture<Object[][]> execute() {
                 return KissenBaseMeta.this.execute(getQuery());
             }
+
+            @Override
+            public @NotNull CompletableFuture<QueryPage> executePage() {
+                return KissenBaseMeta.this.executePage(getQuery());
+            }
+
+            @Override
+            public @NotNull Stream<Object[]> stream() {
+                return KissenBaseMeta.this.stream(getQuery());
+            }
+
+            @Override
+            public @NotNull Flow.Publisher<Object[]> publish() {
+                return KissenBaseMeta.this.publish(getQuery());
+            }
+
+            @Override
+            public @NotNull CompletableFuture<Long> count() {
+                return KissenBaseMeta.this.count(getQuery());
+            }
+
+            @Override
+            public @NotNull CompletableFuture<Boolean> exists() {
+                return KissenBaseMeta.this.exists(getQuery());
+            }
         };
     }
 
@@ -436,6 +488,172 @@ public abstract class KissenBaseMeta implements Meta {
      */
     protected abstract @NotNull CompletableFuture<Object[][]> execute(@NotNull QuerySelect querySelect);
 
+    /**
+     * Executes the specified SELECT query as cursor pagination and returns a CompletableFuture containing the page.
+     *
+     * <p>The query is executed by {@link #executeKeyset(QuerySelect)}, which seeks behind the row the cursor of the
+     * query points to instead of skipping rows, so each page is fetched in the same time regardless of its position.</p>
+     *
+     * @param querySelect the SELECT query to be executed
+     * @return a CompletableFuture containing the requested page
+     * @throws IllegalStateException if the query is sorted, has an offset, a limit of {@code 0} or is distinct
+     */
+    protected @NotNull CompletableFuture<QueryPage> executePage(@NotNull QuerySelect querySelect) {
+        validatePage(querySelect);
+        return executeKeyset(querySelect).thenApply(data -> KissenQueryPage.of(data, querySelect.getLimit()));
+    }
+
+    /**
+     * Executes the specified SELECT query as a stream, which fetches the pages of {@link #executePage(QuerySelect)}
+     * lazily while it is consumed.
+     *
+     * <p>Each page is fetched behind the last row of the previous page and blocks the consuming thread until it has
+     * been loaded. The pages hold at most {@link #STREAM_BATCH_SIZE} rows and the stream ends after the limit of the
+     * query, if it has one. The query itself is left unchanged.</p>
+     *
+     * @param querySelect the SELECT query to be executed
+     * @return a sequential stream of the rows of the result
+     * @throws IllegalStateException if the query cannot be executed as cursor pagination
+     */
+    protected @NotNull Stream<Object[]> stream(@NotNull QuerySelect querySelect) {
+        Function<String, CompletableFuture<QueryPage>> pages = batches(querySelect);
+        Iterator<Object[]> rows = new Iterator<>() {
+            private final Deque<Object[]> page = new ArrayDeque<>();
+            private String cursor = querySelect.getCursor();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (page.isEmpty() && !exhausted) {
+                    QueryPage next = pages.apply(cursor).join();
+                    page.addAll(Arrays.asList(next.getRows()));
+                    cursor = next.getContinuation();
+                    exhausted = !next.hasNext();
+                }
+                return !page.isEmpty();
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.poll();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Executes the specified SELECT query as a publisher, which fetches the pages of
+     * {@link #executePage(QuerySelect)} as the subscriber requests rows.
+     *
+     * <p>The pages are fetched the same way as by {@link #stream(QuerySelect)}.</p>
+     *
+     * @param querySelect the SELECT query to be executed
+     * @return a publisher emitting the rows of the result
+     * @throws IllegalStateException if the query cannot be executed as cursor pagination
+     * @see KissenQueryPublisher
+     */
+    protected @NotNull Flow.Publisher<Object[]> publish(@NotNull QuerySelect querySelect) {
+        return new KissenQueryPublisher(querySelect.getCursor(), batches(querySelect));
+    }
+
+    /**
+     * Returns a function fetching the page behind a cursor, for the rows of the given query that are read in batches.
+     *
+     * <p>Every page is fetched through a copy of the query, sized to the smaller of {@link #STREAM_BATCH_SIZE} and the
+     * rows left to the limit of the query. Once that limit is reached, the last page reports that nothing follows.
+     * The function must only be applied to one page at a time.</p>
+     *
+     * @param querySelect the query to read
+     * @return the function fetching the page behind the given continuation token
+     */
+    private @NotNull Function<String, CompletableFuture<QueryPage>> batches(@NotNull QuerySelect querySelect) {
+        validatePage(querySelect);
+        AtomicLong remaining = new AtomicLong(querySelect.getLimit() < 0 ? Long.MAX_VALUE : querySelect.getLimit());
+        return cursor -> {
+            int size = (int) Math.min(STREAM_BATCH_SIZE, remaining.get());
+            return executePage(KissenQuerySelect.page(querySelect, size, cursor)).thenApply(page -> {
+                if (remaining.addAndGet(-page.getRows().length) > 0) {
+                    return page;
+                }
+                return new KissenQueryPage(page.getRows(), null);
+            });
+        };
+    }
+
+    private void validatePage(@NotNull QuerySelect querySelect) {
+        if (querySelect.isDistinct()) {
+            throw new IllegalStateException("Cursor pagination requires the total id and key of each row and cannot be combined with a distinct select.");
+        }
+        if (querySelect.getOrderQueries().length > 0 || querySelect.getOffset() > 0) {
+            throw new IllegalStateException("Cursor pagination is ordered by total id and key and cannot be combined with orderBy or offset.");
+        }
+        if (querySelect.getLimit() == 0) {
+            throw new IllegalStateException("Cursor pagination requires a positive limit.");
+        }
+    }
+
+    /**
+     * Executes the specified SELECT query as keyset query and returns a CompletableFuture containing the query result.
+     *
+     * <p>The implementation must only return rows behind the cursor of the query, order them by total id and key and
+     * fetch one row more than the limit, if there is one. Each row must contain the selected columns followed by its
+     * total id and key.</p>
+     *
+     * @param querySelect the SELECT query to be executed
+     * @return a CompletableFuture containing the result as an array of objects
+     * @see KissenQueryPage#of(Object[][], int)
+     */
+    protected abstract @NotNull CompletableFuture<Object[][]> executeKeyset(@NotNull QuerySelect querySelect);
+
+    /**
+     * Counts the rows matching the filters of the specified SELECT query and returns a CompletableFuture containing the
+     * amount.
+     *
+     * <p>The implementation should let the database count the rows, without transferring or deserializing them.</p>
+     *
+     * @param querySelect the SELECT query whose filters are used
+     * @return a CompletableFuture containing the amount of matching rows
+     */
+    protected abstract @NotNull CompletableFuture<Long> count(@NotNull QuerySelect querySelect);
+
+    /**
+     * Checks whether any row matches the filters of the specified SELECT query and returns a CompletableFuture
+     * containing the result.
+     *
+     * <p>The implementation should stop at the first matching row, without transferring or deserializing it.</p>
+     *
+     * @param querySelect the SELECT query whose filters are used
+     * @return a CompletableFuture containing whether a matching row exists
+     */
+    protected abstract @NotNull CompletableFuture<Boolean> exists(@NotNull QuerySelect querySelect);
+
+    /**
+     * Computes the given aggregate function over the numeric values stored behind the given key and returns a
+     * CompletableFuture containing the result.
+     *
+     * <p>The implementation should let the database compute the result, ignoring values which are not numbers.</p>
+     *
+     * @param aggregate the aggregate function to compute
+     * @param key       the key whose values are aggregated
+     * @return a CompletableFuture containing the result, or {@code null} if no numeric value is stored
+     */
+    protected abstract @NotNull CompletableFuture<Double> aggregate(@NotNull KissenAggregate aggregate, @NotNull String key);
+
+    /**
+     * Retrieves the total IDs and values of the greatest numeric values stored behind the given key and returns a
+     * CompletableFuture containing them.
+     *
+     * <p>The implementation should let the database sort and limit the rows, so only {@code n} rows are transferred.</p>
+     *
+     * @param key the key whose values are compared
+     * @param n   the positive maximum amount of rows to return
+     * @return a CompletableFuture containing the total IDs mapped to their values in descending order of the values
+     */
+    protected abstract @NotNull CompletableFuture<Map<String, Double>> top(@NotNull String key, int n);
+
     /**
      * Executes the specified UPDATE query and returns a CompletableFuture containing the number of affected rows.
      *
@@ -449,6 +667,73 @@ public abstract class KissenBaseMeta implements Meta {
      */
     protected abstract @NotNull CompletableFuture<@NotNull Long> execute(@NotNull QueryUpdate queryUpdate);
 
+    /**
+     * Atomically adds the given delta to the numeric value stored behind the given total id and key and returns a
+     * CompletableFuture completing once the value has been written.
+     *
+     * <p>The implementation should let the database compute the sum within a single statement. If no value is stored,
+     * it should be created with the delta as its value, and if the stored value is not numeric, the future should
+     * complete exceptionally with an {@link IllegalStateException}.</p>
+     *
+     * @param totalId the total id of the value
+     * @param key     the key of the value
+     * @param delta   the amount to add
+     * @return a CompletableFuture completing once the value has been incremented
+     */
+    protected abstract @NotNull CompletableFuture<Void> add(@NotNull String totalId, @NotNull String key, long delta);
+
+    /**
+     * Replaces the value stored behind the given total id and key with the new value, if the stored value and its type
+     * equal the expected value, and returns a CompletableFuture completing with whether the value has been replaced.
+     *
+     * <p>The implementation should compare and write within a single conditional update. As equal JSON values of
+     * different types, such as an {@link Integer} and a {@link Long}, are not equal values, the type column must be
+     * part of the condition.</p>
+     *
+     * @param totalId  the total id of the value
+     * @param key      the key of the value
+     * @param expected the value which is expected to be stored
+     * @param newValue the value to store
+     * @return a CompletableFuture completing with {@code true} if the value has been replaced
+     */
+    protected abstract @NotNull CompletableFuture<Boolean> swap(@NotNull String totalId, @NotNull String key, @NotNull Object expected, @NotNull Object newValue);
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> compareAndSet(@NotNull String totalId, @NotNull String key, @NotNull Object expected, @NotNull Object newValue) {
+        return swap(totalId, key, expected, newValue).thenApply(Boolean.TRUE::equals); // failed updates complete with null
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> increment(@NotNull String totalId, @NotNull String key, long delta) {
+        return add(totalId, key, delta);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Double> max(@NotNull String key) {
+        return aggregate(KissenAggregate.MAX, key);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Double> min(@NotNull String key) {
+        return aggregate(KissenAggregate.MIN, key);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Double> sum(@NotNull String key) {
+        return aggregate(KissenAggregate.SUM, key).thenApply(sum -> Objects.requireNonNullElse(sum, 0d));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Unmodifiable Map<@NotNull String, @NotNull Double>> topN(@NotNull String key, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format("The amount cannot be negative, %s given.", n));
+        }
+        if (n == 0) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return top(key, n).thenApply(top -> Collections.unmodifiableMap(Objects.requireNonNullElseGet(top, LinkedHashMap::new)));
+    }
+
     @Override
     public @NotNull CompletableFuture<SavableMap> getData(@NotNull String totalId) {
         return select(Column.KEY, Column.VALUE).whereExact(Column.TOTAL_ID, totalId).execute().thenApply(data ->
@@ -463,6 +748,23 @@ public abstract class KissenBaseMeta implements Meta {
         });
     }
 
+    @Override
+    public @NotNull CompletableFuture<@Unmodifiable Map<@NotNull String, @NotNull SavableMap>> getData(@NotNull Collection<String> totalIds) {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(totalIds));
+        List<CompletableFuture<Object[][]>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BULK_LOAD_SIZE) {
+            List<String> batch = ids.subList(i, Math.min(i + BULK_LOAD_SIZE, ids.size()));
+            batches.add(select(Column.TOTAL_ID, Column.KEY, Column.VALUE).whereIn(Column.TOTAL_ID, batch).execute());
+        }
+
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Object[][] data = batches.stream().map(CompletableFuture::join).filter(Objects::nonNull).flatMap(Arrays::stream).toArray(Object[][]::new);
+            Map<String, SavableMap> merged = mergeData(data);
+            ids.forEach(id -> merged.computeIfAbsent(id, (key) -> new KissenSavableMap(key, this, Collections.emptyMap())));
+            return Collections.unmodifiableMap(merged);
+        });
+    }
+
     @Override
     public @NotNull CompletableFuture<@Unmodifiable Map<@NotNull String, @NotNull SavableMap>> getData(@NotNull Savable<?> savable) {
         return select(Column.TOTAL_ID, Column.KEY, Column.VALUE).where(Column.TOTAL_ID, String.format("^%s", savable.getSaveID())).execute().thenApply(this::mergeData);
@@ -18,42 +18,402 @@
 
 package net.kissenpvp.core.database.file;
 
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
 import java.io.*;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
-public class KissenObjectFile {
-    private final Map<String, Serializable> stringSerializableMap;
+/**
+ * An append-only record log which persists serializable objects behind string keys.
+ *
+ * <p>Every change is appended to the file as a single put or delete record, each record is secured by a CRC32
+ * checksum. When the file is opened, the records are scanned sequentially and the log is truncated at the first record
+ * which is incomplete or does not match its checksum, which happens when the process died while appending.
+ *
+ * <p>Only a directory of the keys and the position of their latest value is held in memory. Values are read from the
+ * file and deserialized when they are requested for the first time and are then kept in a soft cache, so neither the
+ * startup time nor the heap grows with the amount of objects in the file. The file is read through its channel rather
+ * than a memory mapping, as a mapping cannot be released deterministically and would prevent the file from being
+ * truncated or replaced on some platforms.
+ *
+ * <p>The offsets of the records are limited to {@link Integer#MAX_VALUE}. Once a record would exceed this size, the log
+ * is compacted, and the record is rejected if it still does not fit.
+ *
+ * <p>Appended records are forced to the disk in batches by a background task, and the log is compacted in the
+ * background as soon as it is mostly made up of outdated records. Files written in the former format, a single
+ * serialized {@link HashMap}, are migrated on the first start.
+ */
+@Slf4j(topic = "Kissen")
+public class KissenObjectFile implements Closeable {
+
+    private static final int MAGIC = 0x4B4F4331;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int RECORD_OVERHEAD = 1 + Integer.BYTES * 3;
+    private static final long SYNC_INTERVAL = 1;
+    private static final long COMPACT_INTERVAL = 300;
+    private static final long MIN_COMPACT_SIZE = 1024 * 1024;
+    private static final long MAX_SIZE = Integer.MAX_VALUE;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final Map<String, Location> directory;
+    private final Map<String, SoftReference<Serializable>> values;
     private final File cacheFile;
+    private final ScheduledExecutorService executor;
+    private FileChannel channel;
+    private long size;
+    private long liveSize;
+    private boolean dirty;
+
+    public KissenObjectFile(@NotNull File cacheFile) throws IOException, ClassNotFoundException {
+        this.cacheFile = cacheFile;
+        this.directory = new HashMap<>();
+        this.values = new HashMap<>();
+        this.liveSize = 0;
+        this.dirty = false;
+
+        if (cacheFile.exists() && cacheFile.length() >= Integer.BYTES && !isLog()) {
+            migrate();
+        }
+        open();
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Kissen-ObjectCache");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::sync, SYNC_INTERVAL, SYNC_INTERVAL, TimeUnit.SECONDS);
+        this.executor.scheduleWithFixedDelay(this::compactIfNecessary, COMPACT_INTERVAL, COMPACT_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    public synchronized boolean contains(@NotNull String key) {
+        return directory.containsKey(key);
+    }
+
+    public synchronized @NotNull @Unmodifiable Set<String> keys() {
+        return Set.copyOf(directory.keySet());
+    }
+
+    /**
+     * Returns the value stored behind the given key.
+     *
+     * <p>The value is read from the file and deserialized the first time it is requested, afterward it is served from
+     * the soft cache until the garbage collector reclaims it.
+     *
+     * @param key the key of the value.
+     * @return the value, or {@code null} if the key is not present.
+     * @throws IOException            if the value could not be deserialized.
+     * @throws ClassNotFoundException if the class of the value is not available anymore.
+     */
+    public synchronized @Nullable Serializable get(@NotNull String key) throws IOException, ClassNotFoundException {
+        Location location = directory.get(key);
+        if (location == null) {
+            return null;
+        }
+
+        SoftReference<Serializable> reference = values.get(key);
+        Serializable value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = deserialize(location);
+            values.put(key, new SoftReference<>(value));
+        }
+        return value;
+    }
 
-    public KissenObjectFile(java.io.File cachefile) throws IOException, ClassNotFoundException {
-        this.cacheFile = cachefile;
-        this.stringSerializableMap = new HashMap<>();
+    /**
+     * Appends a put record for the given key.
+     *
+     * <p>The value is serialized before anything is written, so a {@link NotSerializableException} leaves the log
+     * untouched.
+     *
+     * @param key   the key of the value.
+     * @param value the value to store.
+     * @throws IOException if the value could not be serialized, the record could not be appended or the log would exceed
+     *                     its maximum size even after compacting it.
+     */
+    public synchronized void put(@NotNull String key, @NotNull Serializable value) throws IOException {
+        byte[] data = serialize(value);
+        append(PUT, key, data);
+        values.put(key, new SoftReference<>(value));
+    }
+
+    /**
+     * Appends a delete record for the given key, if the key is present.
+     *
+     * @param key the key to delete.
+     * @return {@code true} if the key was present and has been deleted.
+     * @throws IOException if the record could not be appended.
+     */
+    public synchronized boolean delete(@NotNull String key) throws IOException {
+        if (!directory.containsKey(key)) {
+            return false;
+        }
+
+        append(DELETE, key, new byte[0]);
+        values.remove(key);
+        return true;
+    }
+
+    /**
+     * Forces all records appended since the last call to the storage device.
+     */
+    public synchronized void sync() {
+        if (!dirty) {
+            return;
+        }
+
+        try {
+            channel.force(false);
+            dirty = false;
+        } catch (IOException ioException) {
+            log.error("Failed to sync the object cache file {}.", cacheFile.getName(), ioException);
+        }
+    }
+
+    /**
+     * Rewrites the log so that it only contains the latest put record of every key that is currently present.
+     *
+     * <p>The records are copied between the channels without deserializing them. The compacted log is written to a
+     * temporary file first and then atomically moved over the old file, once the channel of the old file is closed. If
+     * the move fails, the old file is opened again and stays in use.
+     *
+     * @throws IOException if the compacted log could not be written.
+     */
+    public synchronized void compact() throws IOException {
+        File temporary = new File(cacheFile.getPath() + ".tmp");
+        Map<String, Location> compacted = new HashMap<>();
 
-        if (!cacheFile.exists()) {
-            write();
+        try (FileChannel target = FileChannel.open(temporary.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = writeFully(target, ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC), 0);
+            for (Map.Entry<String, Location> entry : directory.entrySet()) {
+                Location location = entry.getValue();
+                compacted.put(entry.getKey(), location.move(position));
+                position = transferFully(location, target, position);
+            }
+            target.force(true);
+        }
+
+        channel.close();
+        try {
+            Files.move(temporary.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE); // the old file if the move failed
+            size = channel.size();
         }
-        read();
+
+        directory.clear();
+        directory.putAll(compacted);
+        liveSize = size;
+        dirty = false;
     }
 
-    public Map<String, Serializable> getStringSerializableMap() {
-        return stringSerializableMap;
+    @Override
+    public synchronized void close() throws IOException {
+        executor.shutdown();
+        sync();
+        channel.close();
     }
 
-    public void write() throws IOException {
-        try (FileOutputStream fileOutputStream = new FileOutputStream(cacheFile);
-             ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream)) {
-            objectOutputStream.writeObject(new HashMap<>(stringSerializableMap));
-            objectOutputStream.flush();
+    private void compactIfNecessary() {
+        try {
+            synchronized (this) {
+                long previous = size;
+                if (previous > MIN_COMPACT_SIZE && previous > liveSize * 2) {
+                    compact();
+                    log.debug("Compacted the object cache file {} from {} to {} bytes.", cacheFile.getName(), previous, size);
+                }
+            }
+        } catch (IOException ioException) {
+            log.error("Failed to compact the object cache file {}.", cacheFile.getName(), ioException);
         }
     }
 
-    public void read() throws IOException, ClassNotFoundException {
-        try (FileInputStream fileInputStream = new FileInputStream(cacheFile); ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream)) {
-            Object raw = objectInputStream.readObject();
-            if (raw instanceof Map<?, ?> map) {
-                this.stringSerializableMap.putAll((Map<? extends String, ? extends Serializable>) map);
+    private void append(byte type, @NotNull String key, byte[] data) throws IOException {
+        ByteBuffer record = record(type, key, data);
+        if (size + record.remaining() > MAX_SIZE) {
+            compact();
+            if (size + record.remaining() > MAX_SIZE) {
+                throw new IOException(String.format("The object cache file %s cannot exceed %s bytes.", cacheFile.getName(), MAX_SIZE));
             }
         }
+
+        Location location = new Location(size, record.remaining(), record.remaining() - Integer.BYTES - data.length);
+        size = writeFully(channel, record, size);
+        dirty = true;
+        index(type, key, location);
+    }
+
+    private void index(byte type, @NotNull String key, @NotNull Location location) {
+        Location previous = type == PUT ? directory.put(key, location) : directory.remove(key);
+        liveSize += (type == PUT ? location.size() : 0) - (previous == null ? 0 : previous.size());
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        size = channel.size();
+        if (size > MAX_SIZE) {
+            channel.close();
+            throw new IOException(String.format("The object cache file %s exceeds the maximum size of %s bytes.", cacheFile.getName(), MAX_SIZE));
+        }
+        if (size < Integer.BYTES) {
+            channel.truncate(0);
+            size = writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC), 0);
+            channel.force(true);
+        }
+        liveSize = Integer.BYTES;
+        scan();
+    }
+
+    private void scan() throws IOException {
+        long position = Integer.BYTES;
+        CRC32 crc = new CRC32();
+        InputStream channelInput = new BufferedInputStream(Channels.newInputStream(channel.position(position)), SCAN_BUFFER_SIZE);
+        DataInputStream input = new DataInputStream(new CheckedInputStream(channelInput, crc)); // closing it would close the channel
+
+        while (position < size) {
+            try {
+                crc.reset();
+                byte type = input.readByte();
+                int keyLength = readLength(input, position + 1);
+                byte[] key = input.readNBytes(keyLength);
+                int dataLength = readLength(input, position + 1 + Integer.BYTES + keyLength);
+                long recordSize = RECORD_OVERHEAD + (long) keyLength + dataLength;
+                if (key.length != keyLength || recordSize > size - position) {
+                    throw new StreamCorruptedException("Record exceeds the file");
+                }
+
+                input.skipNBytes(dataLength);
+                int checksum = (int) crc.getValue();
+                if (checksum != input.readInt()) {
+                    throw new StreamCorruptedException("Checksum mismatch");
+                }
+
+                Location location = new Location(position, (int) recordSize, RECORD_OVERHEAD - Integer.BYTES + keyLength);
+                index(type, new String(key, StandardCharsets.UTF_8), location);
+                position += recordSize;
+            } catch (StreamCorruptedException | EOFException exception) {
+                log.warn("The object cache file {} contains an incomplete record at {}, dropping the remainder.", cacheFile.getName(), position);
+                channel.truncate(position);
+                channel.force(true);
+                size = position;
+                return;
+            }
+        }
+    }
+
+    private int readLength(@NotNull DataInputStream input, long position) throws IOException {
+        if (position + Integer.BYTES > size) {
+            throw new StreamCorruptedException("Record header exceeds the file");
+        }
+
+        int length = input.readInt();
+        if (length < 0 || length > size - position) {
+            throw new StreamCorruptedException("Invalid record length");
+        }
+        return length;
+    }
+
+    private @NotNull Serializable deserialize(@NotNull Location location) throws IOException, ClassNotFoundException {
+        ByteBuffer data = ByteBuffer.allocate(location.size() - location.data() - Integer.BYTES);
+        long position = location.record() + location.data();
+        while (data.hasRemaining()) {
+            if (channel.read(data, position + data.position()) < 0) {
+                throw new EOFException("The record of the value exceeds the file");
+            }
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(data.array()))) {
+            return (Serializable) objectInputStream.readObject();
+        }
+    }
+
+    private long transferFully(@NotNull Location location, @NotNull FileChannel target, long position) throws IOException {
+        long transferred = 0;
+        while (transferred < location.size()) {
+            long count = channel.transferTo(location.record() + transferred, location.size() - transferred, target.position(position + transferred));
+            if (count <= 0) {
+                throw new EOFException("The record exceeds the file");
+            }
+            transferred += count;
+        }
+        return position + transferred;
+    }
+
+    private boolean isLog() throws IOException {
+        try (DataInputStream input = new DataInputStream(new FileInputStream(cacheFile))) {
+            return input.readInt() == MAGIC;
+        }
+    }
+
+    private void migrate() throws IOException, ClassNotFoundException {
+        File temporary = new File(cacheFile.getPath() + ".tmp");
+        try (FileInputStream fileInputStream = new FileInputStream(cacheFile); ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream); FileChannel target = FileChannel.open(temporary.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = writeFully(target, ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC), 0);
+            if (objectInputStream.readObject() instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    position = writeFully(target, record(PUT, (String) entry.getKey(), serialize((Serializable) entry.getValue())), position);
+                }
+            }
+            target.force(true);
+        }
+        Files.move(temporary.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Migrated the object cache file {} to the record log format.", cacheFile.getName());
+    }
+
+    private static @NotNull ByteBuffer record(byte type, @NotNull String key, byte[] data) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_OVERHEAD + keyBytes.length + data.length);
+        buffer.put(type).putInt(keyBytes.length).put(keyBytes).putInt(data.length).put(data);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        return buffer.putInt((int) crc.getValue()).flip();
+    }
+
+    private static byte[] serialize(@NotNull Serializable value) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(value);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static long writeFully(@NotNull FileChannel channel, @NotNull ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        return position;
+    }
+
+    /**
+     * The position of a record within the log.
+     *
+     * @param record the offset of the record within the file.
+     * @param size   the total size of the record, including its checksum.
+     * @param data   the offset of the serialized value relative to the start of the record.
+     */
+    private record Location(long record, int size, int data) {
+
+        private @NotNull Location move(long position) {
+            return new Location(position, size, data);
+        }
     }
 }
@@ -43,6 +43,7 @@ import java.util.Objects;
 @Getter
 public abstract class KissenJDBCDatabaseConnection implements MYSQLDatabaseConnection {
 
+    private static final int DUPLICATE_COLUMN = 1060;
     private final String connectionID, connectionString;
     private final DatabaseDriver driver;
     private Connection connection;
@@ -113,6 +114,11 @@ public abstract class KissenJDBCDatabaseConnection implements MYSQLDatabaseConne
             public void getPreparedStatement(@NotNull String query, @NotNull PreparedStatementExecutor preparedStatementExecutor) {
                 executeStatement(query, preparedStatementExecutor);
             }
+
+            @Override
+            public @NotNull DatabaseDriver getDriver() {
+                return KissenJDBCDatabaseConnection.this.getDriver();
+            }
         };
     }
 
@@ -135,5 +141,43 @@ public abstract class KissenJDBCDatabaseConnection implements MYSQLDatabaseConne
     private void generateTable(@NotNull Table table) {
         String query = "CREATE TABLE IF NOT EXISTS %s (%s VARCHAR(100) NOT NULL, %s VARCHAR(100) NOT NULL, %s TINYTEXT, %s TINYTEXT NOT NULL, %s JSON NOT NULL CHECK (JSON_VALID(%s)));";
         executeStatement(query.formatted(table, table.getColumn(Column.TOTAL_ID), table.getColumn(Column.KEY), table.getPluginColumn(), table.getTypeColumn(), table.getColumn(Column.VALUE), table.getColumn(Column.VALUE)), PreparedStatement::executeUpdate);
+        generateUniqueIndex(table);
+    }
+
+    /**
+     * Creates the unique index over the total id, key and plugin of the given table, which increments upsert on.
+     *
+     * <p>Internal rows have no plugin, and as unique indexes treat {@code NULL} values as distinct, the index covers
+     * the plugin with an empty string in its place. SQLite indexes this expression directly. MySQL and MariaDB cannot
+     * index expressions of text columns, so they index a generated column holding it instead. As they have no
+     * {@code IF NOT EXISTS} for columns, an existing column is taken as the index being created already.</p>
+     *
+     * <p>The index cannot be created as long as a table contains duplicate rows of a key, which older versions did not
+     * prevent. In that case, the table keeps working without it, but the creation of a key by an increment is not
+     * atomic.</p>
+     *
+     * @param table the table to create the index for
+     */
+    private void generateUniqueIndex(@NotNull Table table) {
+        String id = table.getColumn(Column.TOTAL_ID), key = table.getColumn(Column.KEY), plugin = table.getPluginColumn();
+        String query = "ALTER TABLE %1$s ADD COLUMN %4$s_scope VARCHAR(255) AS (IFNULL(%4$s, '')) STORED, ADD CONSTRAINT %1$s_entry UNIQUE (%2$s, %3$s, %4$s_scope);";
+        if (getDriver() == DatabaseDriver.SQLITE) {
+            query = "CREATE UNIQUE INDEX IF NOT EXISTS %1$s_entry ON %1$s (%2$s, %3$s, IFNULL(%4$s, ''));";
+        }
+
+        executeStatement(query.formatted(table, id, key, plugin), new PreparedStatementExecutor() {
+            @Override
+            public void execute(@NotNull PreparedStatement preparedStatement) throws SQLException {
+                preparedStatement.executeUpdate();
+            }
+
+            @Override
+            public boolean handle(@NotNull SQLException throwable) {
+                if (throwable.getErrorCode() != DUPLICATE_COLUMN) {
+                    log.warn("Failed to create the unique index of table {}, increments may create duplicate rows.", table, throwable);
+                }
+                return true;
+            }
+        });
     }
 }
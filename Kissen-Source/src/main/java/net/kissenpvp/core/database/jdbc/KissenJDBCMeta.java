@@ -19,6 +19,7 @@
 package net.kissenpvp.core.database.jdbc;
 
 import net.kissenpvp.core.api.base.plugin.KissenPlugin;
+import net.kissenpvp.core.api.database.connection.DatabaseDriver;
 import net.kissenpvp.core.api.database.connection.PreparedStatementExecutor;
 import net.kissenpvp.core.api.database.meta.BackendException;
 import net.kissenpvp.core.api.database.meta.Meta;
@@ -28,18 +29,27 @@ import net.kissenpvp.core.api.database.queryapi.select.QuerySelect;
 import net.kissenpvp.core.api.database.queryapi.update.QueryUpdate;
 import net.kissenpvp.core.api.database.queryapi.update.Update;
 import net.kissenpvp.core.database.KissenBaseMeta;
+import net.kissenpvp.core.database.jdbc.query.JDBCAggregateQueryExecutor;
+import net.kissenpvp.core.database.jdbc.query.JDBCCompareAndSetQueryExecutor;
+import net.kissenpvp.core.database.jdbc.query.JDBCIncrementQueryExecutor;
+import net.kissenpvp.core.database.jdbc.query.JDBCQueryShape;
 import net.kissenpvp.core.database.jdbc.query.JDBCSelectQueryExecutor;
 import net.kissenpvp.core.database.jdbc.query.JDBCUpdateQueryExecutor;
+import net.kissenpvp.core.database.queryapi.KissenAggregate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.PreparedStatement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -65,6 +75,9 @@ import java.util.stream.Stream;
  */
 public abstract class KissenJDBCMeta extends KissenBaseMeta {
 
+    private static final int QUERY_PLAN_CACHE_SIZE = 256;
+    private final Map<JDBCQueryShape, String> queryPlans;
+
     /**
      * Constructs a new instance of KissenJDBCMeta with the specified table and column names.
      *
@@ -77,6 +90,28 @@ public abstract class KissenJDBCMeta extends KissenBaseMeta {
      */
     public KissenJDBCMeta(@NotNull Table table, @Nullable KissenPlugin kissenPlugin) {
         super(table, kissenPlugin);
+        this.queryPlans = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<JDBCQueryShape, String> eldest) {
+                return size() > QUERY_PLAN_CACHE_SIZE;
+            }
+        });
+    }
+
+    /**
+     * Returns the SQL of the given shape, which is only constructed by the compiler if the shape has not been
+     * constructed before.
+     *
+     * <p>The SQL of a statement only depends on its shape, as the table, plugin and driver are fixed for this meta, so
+     * frequently executed lookups like {@link #getDefaultQuery(String, String)} skip building their SQL. The least
+     * recently used shapes are dropped once more than {@value #QUERY_PLAN_CACHE_SIZE} are cached.</p>
+     *
+     * @param shape    the shape of the statement
+     * @param compiler constructs the SQL if the shape is not cached
+     * @return the SQL of the statement
+     */
+    public @NotNull String getQueryPlan(@NotNull JDBCQueryShape shape, @NotNull Supplier<String> compiler) {
+        return queryPlans.computeIfAbsent(shape, ignored -> compiler.get());
     }
 
     @Override
@@ -116,13 +151,77 @@ public abstract class KissenJDBCMeta extends KissenBaseMeta {
 
     @Override
     protected @NotNull CompletableFuture<Object[][]> execute(@NotNull QuerySelect select) {
+        return execute(new JDBCSelectQueryExecutor(select, this));
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Object[][]> executeKeyset(@NotNull QuerySelect select) {
+        return execute(new JDBCSelectQueryExecutor(select, this, true));
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Long> count(@NotNull QuerySelect select) {
         JDBCSelectQueryExecutor executor = new JDBCSelectQueryExecutor(select, this);
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> values = new ArrayList<>();
+            executor.bind(values);
+            String sql = getQueryPlan(executor.getCountShape(), executor::constructCountSQL);
+
+            AtomicLong count = new AtomicLong();
+            getPreparedStatement(sql, executor.executeScalar(count, values.toArray(String[]::new)));
+            return count.get();
+        }).handle(logExceptions());
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Boolean> exists(@NotNull QuerySelect select) {
+        JDBCSelectQueryExecutor executor = new JDBCSelectQueryExecutor(select, this);
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> values = new ArrayList<>();
+            executor.bind(values);
+            String sql = getQueryPlan(executor.getExistsShape(), executor::constructExistsSQL);
+
+            AtomicLong found = new AtomicLong();
+            getPreparedStatement(sql, executor.executeScalar(found, values.toArray(String[]::new)));
+            return found.get() == 1;
+        }).handle(logExceptions());
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Double> aggregate(@NotNull KissenAggregate aggregate, @NotNull String key) {
+        JDBCAggregateQueryExecutor executor = new JDBCAggregateQueryExecutor(key, this);
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> values = new ArrayList<>();
+            executor.bind(values);
+            String sql = getQueryPlan(executor.getShape(aggregate), () -> executor.constructSQL(aggregate));
+
+            AtomicReference<Double> result = new AtomicReference<>();
+            getPreparedStatement(sql, executor.executeAggregate(result, values.toArray(String[]::new)));
+            return result.get();
+        }).handle(logExceptions());
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Map<String, Double>> top(@NotNull String key, int n) {
+        JDBCAggregateQueryExecutor executor = new JDBCAggregateQueryExecutor(key, this);
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> values = new ArrayList<>();
+            executor.bind(values);
+            String sql = getQueryPlan(executor.getTopShape(), executor::constructTopSQL);
+
+            Map<String, Double> top = new LinkedHashMap<>();
+            getPreparedStatement(sql, executor.executeTop(top, values.toArray(String[]::new), n));
+            return top;
+        }).handle(logExceptions());
+    }
 
+    private @NotNull CompletableFuture<Object[][]> execute(@NotNull JDBCSelectQueryExecutor executor) {
         return CompletableFuture.supplyAsync(() -> {
             List<Object[]> array = new ArrayList<>();
 
             List<String> values = new ArrayList<>();
-            String sql = executor.constructSQL(values);
+            executor.bind(values);
+            String sql = getQueryPlan(executor.getShape(), executor::constructSQL);
             getPreparedStatement(sql, executor.executeStatement(array, values.toArray(String[]::new)));
             return array.toArray(new Object[0][]);
         }).handle(logExceptions());
@@ -133,7 +232,8 @@ public abstract class KissenJDBCMeta extends KissenBaseMeta {
         JDBCUpdateQueryExecutor executor = new JDBCUpdateQueryExecutor(update, this);
         return CompletableFuture.supplyAsync(() -> {
             List<String> updateValues = new ArrayList<>(), whereValues = new ArrayList<>();
-            String sql = executor.constructSQL(updateValues, whereValues);
+            executor.bind(updateValues, whereValues);
+            String sql = getQueryPlan(executor.getShape(), executor::constructSQL);
             String[] total = Stream.concat(updateValues.stream(), whereValues.stream()).toArray(String[]::new);
 
             AtomicLong count = new AtomicLong();
@@ -142,6 +242,52 @@ public abstract class KissenJDBCMeta extends KissenBaseMeta {
         }).handle(logExceptions()).thenApply((data) -> data);
     }
 
+    @Override
+    protected @NotNull CompletableFuture<Boolean> swap(@NotNull String totalId, @NotNull String key, @NotNull Object expected, @NotNull Object newValue) {
+        JDBCCompareAndSetQueryExecutor executor = new JDBCCompareAndSetQueryExecutor(totalId, key, expected, newValue, this);
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> values = new ArrayList<>();
+            executor.bind(values);
+            String sql = getQueryPlan(executor.getShape(), executor::constructSQL);
+
+            AtomicLong count = new AtomicLong();
+            getPreparedStatement(sql, executor.executeStatement(values.toArray(String[]::new), count));
+            return count.get() > 0;
+        }).handle(logExceptions());
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Void> add(@NotNull String totalId, @NotNull String key, long delta) {
+        JDBCIncrementQueryExecutor executor = new JDBCIncrementQueryExecutor(totalId, key, this);
+        return CompletableFuture.runAsync(() -> {
+            if (increment(executor, delta)) {
+                return;
+            }
+
+            // the first increment of a key upserts on the unique index, in case another increment inserts it meanwhile
+            List<String> values = new ArrayList<>();
+            executor.bindUpsert(values, Objects.requireNonNull(serialize(delta)));
+            String sql = getQueryPlan(executor.getUpsertShape(), executor::constructUpsertSQL);
+
+            AtomicLong count = new AtomicLong();
+            getPreparedStatement(sql, executor.executeUpsert(delta, values.toArray(String[]::new), count));
+            if (count.get() > 0 || delta == 0) {
+                return; // MySQL does not count rows an update leaves unchanged, which adding zero always does
+            }
+            throw new IllegalStateException(String.format("The value of key %s in %s is not numeric.", key, totalId));
+        });
+    }
+
+    private boolean increment(@NotNull JDBCIncrementQueryExecutor executor, long delta) {
+        List<String> values = new ArrayList<>();
+        executor.bind(values);
+        String sql = getQueryPlan(executor.getShape(), executor::constructSQL);
+
+        AtomicLong count = new AtomicLong();
+        getPreparedStatement(sql, executor.executeStatement(delta, values.toArray(String[]::new), count));
+        return count.get() > 0;
+    }
+
     @Override
     public void addMap(@NotNull String id, @NotNull Map<@NotNull String, @NotNull Object> data) throws BackendException {
         getPreparedStatement(String.format("INSERT INTO %s (%s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?);", getTable(), getTable().getColumn(Column.TOTAL_ID), getTable().getColumn(Column.KEY), getTable().getPluginColumn(), getTable().getTypeColumn(), getTable().getColumn(Column.VALUE)), preparedStatement -> {
@@ -217,4 +363,14 @@ public abstract class KissenJDBCMeta extends KissenBaseMeta {
      * @see PreparedStatementExecutor
      */
     public abstract void getPreparedStatement(@NotNull String query, @NotNull PreparedStatementExecutor preparedStatementExecutor);
+
+    /**
+     * Returns the driver of the database this meta is connected to.
+     *
+     * <p>The driver determines the SQL dialect used for statements which are not covered by standard SQL, such as
+     * comparisons against the JSON document of the value column.</p>
+     *
+     * @return the {@link DatabaseDriver} of the underlying connection
+     */
+    public abstract @NotNull DatabaseDriver getDriver();
 }
@@ -0,0 +1,122 @@
+package net.kissenpvp.core.database.jdbc.query;
+
+import lombok.Getter;
+import net.kissenpvp.core.api.database.connection.PreparedStatementExecutor;
+import net.kissenpvp.core.api.database.meta.Table;
+import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.FilterOperator;
+import net.kissenpvp.core.api.database.queryapi.FilterQuery;
+import net.kissenpvp.core.api.database.queryapi.FilterType;
+import net.kissenpvp.core.database.jdbc.KissenJDBCMeta;
+import net.kissenpvp.core.database.queryapi.KissenAggregate;
+import net.kissenpvp.core.database.queryapi.KissenFilterQuery;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A subclass of {@link JDBCQueryExecutor} for computing aggregates over the numeric values stored behind a key.
+ *
+ * <p>
+ * The values are extracted from the JSON document of the value column, so the database computes the aggregate or
+ * sorts the rows without transferring them. Rows whose value is not a JSON number are excluded by their JSON type.
+ *
+ * @see JDBCQueryExecutor
+ */
+@Getter
+public class JDBCAggregateQueryExecutor extends JDBCQueryExecutor {
+
+    private static final String AGGREGATE_FORMAT = "SELECT %s(%s) FROM %s WHERE %s AND %s;";
+    private static final String TOP_FORMAT = "SELECT %s, %s FROM %s WHERE %s AND %s ORDER BY 2 DESC LIMIT ?;";
+    private final FilterQuery[] filterQueries;
+
+    /**
+     * Constructs a JDBCAggregateQueryExecutor for the values stored behind the given key.
+     *
+     * @param key  the key whose values are aggregated
+     * @param meta the {@link KissenJDBCMeta} object representing the JDBC metadata
+     */
+    public JDBCAggregateQueryExecutor(@NotNull String key, @NotNull KissenJDBCMeta meta) {
+        super(meta);
+        this.filterQueries = new FilterQuery[]{new KissenFilterQuery(Column.KEY, List.of(key), FilterOperator.INIT, FilterType.IN)};
+    }
+
+    /**
+     * Returns the shape of the statement computing the given aggregate.
+     *
+     * @param aggregate the aggregate function
+     * @return the shape of the statement constructed by {@link #constructSQL(KissenAggregate)}
+     */
+    public @NotNull JDBCQueryShape getShape(@NotNull KissenAggregate aggregate) {
+        return new JDBCQueryShape("AGGREGATE", List.of(aggregate));
+    }
+
+    /**
+     * Returns the shape of the statement fetching the greatest values, which is the same for every amount of rows.
+     *
+     * @return the shape of the statement constructed by {@link #constructTopSQL()}
+     */
+    public @NotNull JDBCQueryShape getTopShape() {
+        return new JDBCQueryShape("TOP", List.of());
+    }
+
+    /**
+     * Adds the values bound by the statements of this executor in the order of their placeholders.
+     *
+     * @param values the list the values are added to
+     */
+    public void bind(@NotNull List<String> values) {
+        bindWhere(values, getFilterQueries());
+    }
+
+    public @NotNull String constructSQL(@NotNull KissenAggregate aggregate) {
+        String table = getMeta().getTable().getTable();
+        return String.format(AGGREGATE_FORMAT, aggregate, number(), table, where(getFilterQueries()), numeric());
+    }
+
+    public @NotNull String constructTopSQL() {
+        Table table = getMeta().getTable();
+        return String.format(TOP_FORMAT, table.getColumn(Column.TOTAL_ID), number(), table.getTable(), where(getFilterQueries()), numeric());
+    }
+
+    /**
+     * Creates an executor storing the single value computed by an aggregate statement.
+     *
+     * @param result    the reference the value is stored in, which remains {@code null} if no numeric value is stored
+     * @param parameter the values to bind to the statement
+     * @return the executor for the prepared statement
+     */
+    public @NotNull PreparedStatementExecutor executeAggregate(@NotNull AtomicReference<Double> result, @NotNull String[] parameter) {
+        return statement -> {
+            setStatementValues(statement, parameter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    double value = resultSet.getDouble(1);
+                    result.set(resultSet.wasNull() ? null : value);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates an executor adding the total id and value of each row returned by a top statement.
+     *
+     * @param result    the map the rows are added to, in the order they are returned
+     * @param parameter the values to bind to the statement
+     * @param n         the maximum amount of rows, bound to the LIMIT clause
+     * @return the executor for the prepared statement
+     */
+    public @NotNull PreparedStatementExecutor executeTop(@NotNull Map<String, Double> result, @NotNull String[] parameter, int n) {
+        return statement -> {
+            setStatementValues(statement, parameter, n);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString(1), resultSet.getDouble(2));
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package net.kissenpvp.core.database.jdbc.query;
+
+import lombok.Getter;
+import net.kissenpvp.core.api.database.connection.PreparedStatementExecutor;
+import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.FilterOperator;
+import net.kissenpvp.core.api.database.queryapi.FilterQuery;
+import net.kissenpvp.core.api.database.queryapi.FilterType;
+import net.kissenpvp.core.database.jdbc.KissenJDBCMeta;
+import net.kissenpvp.core.database.queryapi.KissenFilterQuery;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A subclass of {@link JDBCQueryExecutor} for replacing the value stored behind a key, if it equals an expected value.
+ *
+ * <p>
+ * The comparison and the write are a single conditional UPDATE. The condition compares the JSON document of the stored
+ * value with the expected value and the type column with the type of the expected value, as equal JSON documents can
+ * be stored by values of different types.
+ *
+ * @see JDBCQueryExecutor
+ */
+@Getter
+public class JDBCCompareAndSetQueryExecutor extends JDBCQueryExecutor {
+
+    private static final String COMPARE_AND_SET_FORMAT = "UPDATE %s SET %s = ?, %s = ? WHERE %s AND %s = ?;";
+    private final Object expected, newValue;
+    private final FilterQuery[] filterQueries;
+
+    /**
+     * Constructs a JDBCCompareAndSetQueryExecutor for the value stored behind the given total id and key.
+     *
+     * @param totalId  the total id of the row to replace
+     * @param key      the key of the row to replace
+     * @param expected the value which is expected to be stored
+     * @param newValue the value to store
+     * @param meta     the {@link KissenJDBCMeta} object representing the JDBC metadata
+     */
+    public JDBCCompareAndSetQueryExecutor(@NotNull String totalId, @NotNull String key, @NotNull Object expected, @NotNull Object newValue, @NotNull KissenJDBCMeta meta) {
+        super(meta);
+        this.expected = expected;
+        this.newValue = newValue;
+        this.filterQueries = new FilterQuery[]{
+                new KissenFilterQuery(Column.TOTAL_ID, List.of(totalId), FilterOperator.INIT, FilterType.IN),
+                new KissenFilterQuery(Column.KEY, List.of(key), FilterOperator.AND, FilterType.IN),
+                new KissenFilterQuery(Column.VALUE, expected, FilterOperator.AND, FilterType.EQUALS)
+        };
+    }
+
+    /**
+     * Returns the shape of the statement, which is the same for every total id, key and value.
+     *
+     * @return the shape of the statement constructed by {@link #constructSQL()}
+     */
+    public @NotNull JDBCQueryShape getShape() {
+        return new JDBCQueryShape("COMPARE_AND_SET", List.of());
+    }
+
+    /**
+     * Adds the values bound by the statement in the order of their placeholders, which are the type and value of the
+     * new value, the values of the WHERE clause and the type of the expected value.
+     *
+     * @param values the list the values are added to
+     */
+    public void bind(@NotNull List<String> values) {
+        String[] serialized = Objects.requireNonNull(getMeta().serialize(getNewValue()));
+        values.add(serialized[0]);
+        values.add(serialized[1]);
+        bindWhere(values, getFilterQueries());
+        values.add(Objects.requireNonNull(getMeta().serialize(getExpected()))[0]);
+    }
+
+    /**
+     * Constructs the conditional update statement.
+     *
+     * @return the SQL of the statement
+     */
+    public @NotNull String constructSQL() {
+        String type = getMeta().getTable().getTypeColumn();
+        return String.format(COMPARE_AND_SET_FORMAT, getMeta().getTable(), type, getMeta().getTable().getColumn(Column.VALUE), where(getFilterQueries()), type);
+    }
+
+    /**
+     * Creates an executor binding the values of the statement and storing the number of affected rows.
+     *
+     * @param parameter the values of the statement, as added by {@link #bind(List)}
+     * @param count     the reference the number of affected rows is stored in
+     * @return the executor for the prepared statement
+     */
+    public @NotNull PreparedStatementExecutor executeStatement(@NotNull String[] parameter, @NotNull AtomicLong count) {
+        return preparedStatement -> {
+            setStatementValues(preparedStatement, parameter);
+            count.set(preparedStatement.executeUpdate());
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package net.kissenpvp.core.database.jdbc.query;
+
+import lombok.Getter;
+import net.kissenpvp.core.api.database.connection.DatabaseDriver;
+import net.kissenpvp.core.api.database.connection.PreparedStatementExecutor;
+import net.kissenpvp.core.api.database.meta.Table;
+import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.FilterOperator;
+import net.kissenpvp.core.api.database.queryapi.FilterQuery;
+import net.kissenpvp.core.api.database.queryapi.FilterType;
+import net.kissenpvp.core.database.jdbc.KissenJDBCMeta;
+import net.kissenpvp.core.database.queryapi.KissenFilterQuery;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A subclass of {@link JDBCQueryExecutor} for atomically adding a delta to the numeric value stored behind a key.
+ *
+ * <p>
+ * The addition is computed by the database within a single UPDATE statement, so concurrent increments never overwrite
+ * each other. Rows whose value is not a JSON number are excluded by their JSON type, meaning the statement does not
+ * affect any row if no numeric value is stored.
+ *
+ * <p>
+ * A key without a row is created by an upsert on the unique index of the table, which adds the delta to the value
+ * instead if another increment created the row in the meantime. See {@link #constructUpsertSQL()}.
+ *
+ * @see JDBCQueryExecutor
+ */
+@Getter
+public class JDBCIncrementQueryExecutor extends JDBCQueryExecutor {
+
+    private static final String INCREMENT_FORMAT = "UPDATE %s SET %s = %s WHERE %s AND %s;";
+    private static final String UPSERT_FORMAT = "INSERT INTO %s (%s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?) %s;";
+    private final String totalId, key;
+    private final FilterQuery[] filterQueries;
+
+    /**
+     * Constructs a JDBCIncrementQueryExecutor for the value stored behind the given total id and key.
+     *
+     * @param totalId the total id of the row to increment
+     * @param key     the key of the row to increment
+     * @param meta    the {@link KissenJDBCMeta} object representing the JDBC metadata
+     */
+    public JDBCIncrementQueryExecutor(@NotNull String totalId, @NotNull String key, @NotNull KissenJDBCMeta meta) {
+        super(meta);
+        this.totalId = totalId;
+        this.key = key;
+        this.filterQueries = new FilterQuery[]{
+                new KissenFilterQuery(Column.TOTAL_ID, List.of(totalId), FilterOperator.INIT, FilterType.IN),
+                new KissenFilterQuery(Column.KEY, List.of(key), FilterOperator.AND, FilterType.IN)
+        };
+    }
+
+    /**
+     * Returns the shape of the increment statement, which is the same for every total id and key.
+     *
+     * @return the shape of the statement constructed by {@link #constructSQL()}
+     */
+    public @NotNull JDBCQueryShape getShape() {
+        return new JDBCQueryShape("INCREMENT", List.of());
+    }
+
+    /**
+     * Returns the shape of the upsert statement, which is the same for every total id and key.
+     *
+     * @return the shape of the statement constructed by {@link #constructUpsertSQL()}
+     */
+    public @NotNull JDBCQueryShape getUpsertShape() {
+        return new JDBCQueryShape("INCREMENT_UPSERT", List.of());
+    }
+
+    /**
+     * Adds the values bound by the WHERE clause in the order of their placeholders.
+     *
+     * <p>The delta itself is not part of these values, as it is bound as a number by
+     * {@link #executeStatement(long, String[], AtomicLong)}.</p>
+     *
+     * @param values the list the values are added to
+     */
+    public void bind(@NotNull List<String> values) {
+        bindWhere(values, getFilterQueries());
+    }
+
+    /**
+     * Adds the values of the row inserted by the upsert statement in the order of their placeholders.
+     *
+     * <p>The delta added on a conflict is not part of these values, as it is bound as a number by
+     * {@link #executeUpsert(long, String[], AtomicLong)}.</p>
+     *
+     * @param values     the list the values are added to
+     * @param serialized the type and value of the inserted row, as returned by {@link KissenJDBCMeta#serialize(Object)}
+     */
+    public void bindUpsert(@NotNull List<String> values, @NotNull String @NotNull [] serialized) {
+        values.add(totalId);
+        values.add(key);
+        values.add(Objects.isNull(getMeta().getPlugin()) ? null : getMeta().getPlugin().getName());
+        values.add(serialized[0]);
+        values.add(serialized[1]);
+    }
+
+    /**
+     * Constructs the increment statement, which adds the delta to the value of an existing row. See {@link #sum()}.
+     *
+     * @return the SQL of the increment statement
+     */
+    public @NotNull String constructSQL() {
+        String value = getMeta().getTable().getColumn(Column.VALUE);
+        return String.format(INCREMENT_FORMAT, getMeta().getTable(), value, sum(), where(getFilterQueries()), numeric());
+    }
+
+    /**
+     * Constructs the statement inserting the delta as the first value of a key, or adding it to the value of the row
+     * conflicting with it on the unique index of the table.
+     *
+     * <p>
+     * MySQL and MariaDB only add the delta to a numeric value and keep any other value, which leaves the row unchanged.
+     * SQLite names the expressions of the index as conflict target and skips the update of a value which is not
+     * numeric. Either way, the statement does not affect any row if a value which is not numeric is stored.
+     *
+     * @return the SQL of the upsert statement
+     */
+    public @NotNull String constructUpsertSQL() {
+        Table table = getMeta().getTable();
+        String value = table.getColumn(Column.VALUE);
+        String conflict = "ON DUPLICATE KEY UPDATE %1$s = IF(%2$s, %3$s, %1$s)".formatted(value, numeric(), sum());
+        if (getMeta().getDriver() == DatabaseDriver.SQLITE) {
+            conflict = "ON CONFLICT (%s, %s, IFNULL(%s, '')) DO UPDATE SET %s = %s WHERE %s".formatted(table.getColumn(Column.TOTAL_ID), table.getColumn(Column.KEY), table.getPluginColumn(), value, sum(), numeric());
+        }
+        return String.format(UPSERT_FORMAT, table, table.getColumn(Column.TOTAL_ID), table.getColumn(Column.KEY), table.getPluginColumn(), table.getTypeColumn(), value, conflict);
+    }
+
+    /**
+     * Creates an executor binding the values of the upsert statement and the delta and storing the number of affected
+     * rows.
+     *
+     * @param delta     the amount to add on a conflict
+     * @param parameter the values of the inserted row, as added by {@link #bindUpsert(List, String[])}
+     * @param count     the reference the number of affected rows is stored in
+     * @return the executor for the prepared statement
+     */
+    public @NotNull PreparedStatementExecutor executeUpsert(long delta, @NotNull String[] parameter, @NotNull AtomicLong count) {
+        return preparedStatement -> {
+            setStatementValues(preparedStatement, parameter);
+            preparedStatement.setLong(parameter.length + 1, delta);
+            count.set(preparedStatement.executeUpdate());
+        };
+    }
+
+    /**
+     * Creates an executor binding the delta and the WHERE values and storing the number of affected rows.
+     *
+     * @param delta     the amount to add
+     * @param parameter the values of the WHERE clause
+     * @param count     the reference the number of affected rows is stored in
+     * @return the executor for the prepared statement
+     */
+    public @NotNull PreparedStatementExecutor executeStatement(long delta, @NotNull String[] parameter, @NotNull AtomicLong count) {
+        return preparedStatement -> {
+            preparedStatement.setLong(1, delta);
+            for (int i = 0; i < parameter.length; i++) {
+                preparedStatement.setString(i + 2, parameter[i]);
+            }
+            count.set(preparedStatement.executeUpdate());
+        };
+    }
+
+    /**
+     * Returns the expression adding the bound delta to the value column.
+     *
+     * <p>
+     * SQLite stores the sum as it is, as its JSON functions accept numbers as valid JSON. MySQL and MariaDB wrap the sum
+     * into a JSON array and extract it again, which converts it into a JSON number on both databases.
+     *
+     * @return the sum expression, with a placeholder for the delta
+     */
+    private @NotNull String sum() {
+        String value = getMeta().getTable().getColumn(Column.VALUE);
+        if (getMeta().getDriver() == DatabaseDriver.SQLITE) {
+            return "json_extract(%s, '$') + ?".formatted(value);
+        }
+        return "JSON_EXTRACT(JSON_ARRAY(JSON_EXTRACT(%s, '$') + ?), '$[0]')".formatted(value);
+    }
+}
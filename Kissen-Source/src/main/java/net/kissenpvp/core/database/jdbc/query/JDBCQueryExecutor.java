@@ -2,14 +2,20 @@ package net.kissenpvp.core.database.jdbc.query;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import net.kissenpvp.core.api.database.connection.DatabaseDriver;
+import net.kissenpvp.core.api.database.meta.Table;
 import net.kissenpvp.core.api.database.queryapi.Column;
 import net.kissenpvp.core.api.database.queryapi.FilterQuery;
+import net.kissenpvp.core.api.database.queryapi.FilterType;
 import net.kissenpvp.core.database.jdbc.KissenJDBCMeta;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.IntFunction;
@@ -41,10 +47,28 @@ public class JDBCQueryExecutor {
         }
     }
 
-    protected @NotNull String where(@NotNull List<String> values, @NotNull FilterQuery @NotNull ... filterQueries)
+    /**
+     * Binds the given values as strings, followed by the given numbers.
+     *
+     * <p>The numbers are bound as longs, as drivers which inline the parameters of a statement would quote them as
+     * strings otherwise, which a {@code LIMIT} or {@code OFFSET} clause does not accept.</p>
+     *
+     * @param preparedStatement the statement the values are bound to
+     * @param parameterValues   the string values, bound first
+     * @param numbers           the numeric values, bound after the string values
+     * @throws SQLException if a value cannot be bound
+     */
+    protected void setStatementValues(@NotNull PreparedStatement preparedStatement, @NotNull String @NotNull [] parameterValues, long @NotNull ... numbers) throws SQLException {
+        setStatementValues(preparedStatement, parameterValues);
+        for (int i = 0; i < numbers.length; i++) {
+            preparedStatement.setLong(parameterValues.length + i + 1, numbers[i]);
+        }
+    }
+
+    protected @NotNull String where(@NotNull FilterQuery @NotNull ... filterQueries)
     {
         String pluginColumn = getMeta().getTable().getPluginColumn();
-        String where = internalWhere(values, filterQueries);
+        String where = internalWhere(filterQueries);
         boolean noFilter = filterQueries.length==0;
 
         if (Objects.isNull(getMeta().getPlugin())) {
@@ -54,13 +78,73 @@ public class JDBCQueryExecutor {
             return String.format(WHERE_INTERNAL, where, pluginColumn);
         }
 
-        values.add(getMeta().getPlugin().getName());
         if (noFilter) {
             return String.format(WHERE_NO_FILTER, pluginColumn);
         }
         return String.format(WHERE, where, pluginColumn);
     }
 
+    /**
+     * Adds the values bound by the WHERE clause of {@link #where(FilterQuery...)} in the order of their placeholders.
+     *
+     * <p>As the SQL of a statement only depends on its {@link JDBCQueryShape}, the values are collected separately
+     * from the SQL, so a cached statement can be executed without constructing it again.</p>
+     *
+     * @param values        the list the values are added to
+     * @param filterQueries the filter queries of the WHERE clause
+     */
+    protected void bindWhere(@NotNull List<String> values, @NotNull FilterQuery @NotNull ... filterQueries) {
+        for (FilterQuery filterQuery : filterQueries) {
+            if (filterQuery.getValue() instanceof Collection<?> elements && filterQuery.getFilterType() == FilterType.IN) {
+                List<String> bound = elements.stream().map(Object::toString).toList();
+                values.addAll(bound);
+                values.addAll(Collections.nCopies(placeholders(filterQuery) - bound.size(), bound.get(bound.size() - 1)));
+                continue;
+            }
+
+            String serialized = filterQuery.getValue().toString();
+            if (filterQuery.getColumn().equals(Column.VALUE)) {
+                serialized = getMeta().serialize(filterQuery.getValue())[1]; // [0] is not required;
+            }
+            values.add(serialized);
+        }
+
+        if (Objects.nonNull(getMeta().getPlugin())) {
+            values.add(getMeta().getPlugin().getName());
+        }
+    }
+
+    /**
+     * Describes the given filter queries without their values, which is everything the WHERE clause depends on.
+     *
+     * <p>As the amount of placeholders of an {@link FilterType#IN} filter depends on its number of values, this number
+     * is part of the shape as well. It is rounded up, see {@link #placeholders(FilterQuery)}.</p>
+     *
+     * @param filterQueries the filter queries to describe
+     * @return a list holding the column, operator, type and number of placeholders of each filter query
+     * @see JDBCQueryShape
+     */
+    protected static @NotNull List<List<?>> shape(@NotNull FilterQuery @NotNull [] filterQueries) {
+        return Arrays.stream(filterQueries).<List<?>>map(filterQuery -> List.of(filterQuery.getColumn(), filterQuery.getFilterOperator(), filterQuery.getFilterType(), placeholders(filterQuery))).toList();
+    }
+
+    /**
+     * Returns the number of placeholders the condition of the given filter query binds.
+     *
+     * <p>The placeholders of an {@link FilterType#IN} filter are rounded up to the next power of two, and the unused
+     * ones are bound to the last value again, which does not change the condition. This way, lists of any length share
+     * a few shapes instead of one shape per length.</p>
+     *
+     * @param filterQuery the filter query
+     * @return the number of placeholders of an {@link FilterType#IN} filter, otherwise {@code 1}
+     */
+    private static int placeholders(@NotNull FilterQuery filterQuery) {
+        if (filterQuery.getValue() instanceof Collection<?> elements && filterQuery.getFilterType() == FilterType.IN) {
+            return elements.size() > 1 ? Integer.highestOneBit(elements.size() - 1) << 1 : 1;
+        }
+        return 1;
+    }
+
     /**
      * Constructs a string representing the WHERE clause based on the provided filter queries.
      *
@@ -68,15 +152,14 @@ public class JDBCQueryExecutor {
      * array of {@link FilterQuery} objects. Each filter query is used to generate a condition within the WHERE clause.
      * The resulting string combines all conditions using logical operators such as "AND" or "OR".</p>
      *
-     * @param values        an array of string values used in constructing the WHERE clause
      * @param filterQueries an array of {@link FilterQuery} objects representing the conditions of the WHERE clause
      * @return a string representing the WHERE clause
-     * @throws NullPointerException if the array of values or filter queries is {@code null}
+     * @throws NullPointerException if the array of filter queries is {@code null}
      * @see FilterQuery
      */
-    private @NotNull String internalWhere(@NotNull List<String> values, @NotNull FilterQuery @NotNull ... filterQueries) {
+    private @NotNull String internalWhere(@NotNull FilterQuery @NotNull ... filterQueries) {
         int length = filterQueries.length;
-        return IntStream.range(0, length).mapToObj(whereEntry(values, filterQueries)).collect(Collectors.joining());
+        return IntStream.range(0, length).mapToObj(whereEntry(filterQueries)).collect(Collectors.joining());
     }
 
     /**
@@ -87,26 +170,71 @@ public class JDBCQueryExecutor {
      * resulting function constructs a clause string for a specific filter query, considering the column name,
      * comparison operator, and value.</p>
      *
-     * @param values        an array of string values used in constructing the WHERE clause
      * @param filterQueries an array of {@link FilterQuery} objects representing the conditions of the WHERE clause
      * @return a function mapping integer indices to parts of the WHERE clause based on filter queries
-     * @throws NullPointerException if the array of values or filter queries is {@code null}
+     * @throws NullPointerException if the array of filter queries is {@code null}
      * @see FilterQuery
      */
-    @Contract(pure = true, value = "_, _ -> new")
-    private @NotNull IntFunction<String> whereEntry(@NotNull List<String> values, @NotNull FilterQuery[] filterQueries) {
-        final String pattern = "%s REGEXP ?";
+    @Contract(pure = true, value = "_ -> new")
+    private @NotNull IntFunction<String> whereEntry(@NotNull FilterQuery[] filterQueries) {
         return i -> {
             FilterQuery filterQuery = filterQueries[i];
 
-            String serialized = filterQuery.getValue().toString();
-            if (filterQuery.getColumn().equals(Column.VALUE)) {
-                serialized = getMeta().serialize(filterQuery.getValue())[1]; // [0] is not required;
-            }
-            values.add(serialized);
-
-            String clause = pattern.formatted(getMeta().getTable().getColumn(filterQuery.getColumn()));
+            Table table = getMeta().getTable();
+            String clause = pattern(filterQuery).formatted(table.getTable(), table.getColumn(filterQuery.getColumn()));
             return i==0 ? clause:" " + filterQuery.getFilterOperator() + " " + clause;
         };
     }
+
+    /**
+     * Returns the condition pattern for the given {@link FilterType} in the dialect of the connected database.
+     *
+     * <p>Typed filters compare the JSON document of the value column with the serialized parameter instead of matching
+     * its text. MySQL and MariaDB use {@code JSON_EXTRACT} and {@code JSON_CONTAINS}, while SQLite uses
+     * {@code json_extract} and walks collections with {@code json_each}, which needs the column qualified by its table
+     * as {@code json_each} has a value column itself. Each pattern takes the table and column name and binds exactly
+     * one parameter, except for {@link FilterType#IN}, which binds one parameter per value.</p>
+     *
+     * @param filterQuery the filter query
+     * @return the pattern of the condition, with placeholders for the table and column name
+     */
+    private @NotNull String pattern(@NotNull FilterQuery filterQuery) {
+        boolean sqlite = getMeta().getDriver() == DatabaseDriver.SQLITE;
+        return switch (filterQuery.getFilterType()) {
+            case MATCHES -> "%2$s REGEXP ?";
+            case EQUALS -> sqlite ? "json_extract(%2$s, '$') = json_extract(?, '$')" : "JSON_EXTRACT(%2$s, '$') = JSON_EXTRACT(?, '$')";
+            case CONTAINS -> sqlite ? "EXISTS (SELECT 1 FROM json_each(%1$s.%2$s) AS element WHERE element.value = json_extract(?, '$'))" : "JSON_CONTAINS(%2$s, ?)";
+            case IN -> "%2$s IN (" + String.join(", ", Collections.nCopies(placeholders(filterQuery), "?")) + ")";
+        };
+    }
+
+    /**
+     * Returns the expression extracting the number from the JSON document of the value column.
+     *
+     * <p>
+     * MySQL and MariaDB extract the value as JSON, which is cast to a decimal so it is compared numerically. SQLite
+     * already returns JSON numbers as numeric values.
+     *
+     * @return the numeric expression
+     */
+    protected @NotNull String number() {
+        String value = getMeta().getTable().getColumn(Column.VALUE);
+        if (getMeta().getDriver() == DatabaseDriver.SQLITE) {
+            return String.format("json_extract(%s, '$')", value);
+        }
+        return String.format("CAST(JSON_EXTRACT(%s, '$') AS DECIMAL(65, 10))", value);
+    }
+
+    /**
+     * Returns the condition only matching rows whose value is a JSON number.
+     *
+     * @return the condition checking the JSON type of the value column
+     */
+    protected @NotNull String numeric() {
+        String value = getMeta().getTable().getColumn(Column.VALUE);
+        if (getMeta().getDriver() == DatabaseDriver.SQLITE) {
+            return String.format("json_type(%s) IN ('integer', 'real')", value);
+        }
+        return String.format("JSON_TYPE(%s) IN ('INTEGER', 'UNSIGNED INTEGER', 'DOUBLE', 'DECIMAL')", value);
+    }
 }
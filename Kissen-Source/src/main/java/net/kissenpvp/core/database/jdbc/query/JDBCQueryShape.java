@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package net.kissenpvp.core.database.jdbc.query;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The shape of a JDBC statement, which consists of everything its SQL depends on, but not the values bound to it.
+ *
+ * <p>
+ * Queries which only differ in their values, such as the lookup of different keys, have an equal shape. This allows
+ * the SQL of a shape to be constructed once and reused by later executions, which then only collect their values.
+ * The components must therefore be immutable and implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ *
+ * @param statement  the kind of statement, for example {@code SELECT} or {@code UPDATE}
+ * @param components the columns, filters and clauses of the statement
+ * @see net.kissenpvp.core.database.jdbc.KissenJDBCMeta#getQueryPlan(JDBCQueryShape, java.util.function.Supplier)
+ */
+public record JDBCQueryShape(@NotNull String statement, @NotNull List<?> components) {}
@@ -5,8 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import net.kissenpvp.core.api.database.connection.PreparedStatementExecutor;
 import net.kissenpvp.core.api.database.meta.Table;
 import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.OrderQuery;
+import net.kissenpvp.core.api.database.queryapi.SortDirection;
 import net.kissenpvp.core.api.database.queryapi.select.QuerySelect;
 import net.kissenpvp.core.database.jdbc.KissenJDBCMeta;
+import net.kissenpvp.core.database.queryapi.KissenQueryCursor;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.PreparedStatement;
@@ -15,7 +18,9 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A subclass of {@link JDBCQueryExecutor} for executing JDBC select queries.
@@ -30,8 +35,15 @@ import java.util.stream.Collectors;
 @Getter
 public class JDBCSelectQueryExecutor extends JDBCQueryExecutor {
 
-    private static final String SELECT_FORMAT = "SELECT %s FROM %s WHERE %s;";
+    private static final String SELECT_FORMAT = "SELECT %s FROM %s WHERE %s%s;";
+    private static final String ORDER_FORMAT = " ORDER BY %s";
+    private static final String LIMIT = " LIMIT ?";
+    private static final String OFFSET = " OFFSET ?";
+    private static final String COUNT_FORMAT = "SELECT COUNT(%s) FROM %s WHERE %s;";
+    private static final String EXISTS_FORMAT = "SELECT 1 FROM %s WHERE %s LIMIT 1;";
+    private static final String KEYSET_FORMAT = " AND (%1$s > ? OR (%1$s = ? AND %2$s > ?))";
     private final QuerySelect query;
+    private final boolean keyset;
 
     /**
      * Constructs a JDBCSelectQueryExecutor with the specified {@link QuerySelect} and {@link KissenJDBCMeta}.
@@ -41,18 +53,163 @@ public class JDBCSelectQueryExecutor extends JDBCQueryExecutor {
      * @throws NullPointerException if either {@code select} or {@code meta} is {@code null}
      */
     public JDBCSelectQueryExecutor(@NotNull QuerySelect select, @NotNull KissenJDBCMeta meta) {
+        this(select, meta, false);
+    }
+
+    /**
+     * Constructs a JDBCSelectQueryExecutor which optionally executes the query as keyset query.
+     *
+     * <p>
+     * A keyset query only returns the rows behind the cursor of the select, ordered by total id and key, and fetches one
+     * row more than the limit. Each row is extended by its total id and key, so the next cursor can be created from it.
+     *
+     * @param select the {@link QuerySelect} object representing the select query
+     * @param meta   the {@link KissenJDBCMeta} object representing the JDBC metadata
+     * @param keyset whether the query should be executed as keyset query
+     * @see net.kissenpvp.core.database.queryapi.KissenQueryPage
+     */
+    public JDBCSelectQueryExecutor(@NotNull QuerySelect select, @NotNull KissenJDBCMeta meta, boolean keyset) {
         super(meta);
         this.query = select;
+        this.keyset = keyset;
+    }
+
+    /**
+     * Returns the shape of this select, which identifies its SQL regardless of the values bound to it.
+     *
+     * @return the shape of the statement constructed by {@link #constructSQL()}
+     */
+    public @NotNull JDBCQueryShape getShape() {
+        List<?> components = List.of(List.of(getQuery().getColumns()), getQuery().isDistinct(), shape(getQuery().getFilterQueries()), List.of(getQuery().getOrderQueries()), getQuery().getLimit() >= 0, getQuery().getOffset() > 0, Objects.nonNull(getQuery().getCursor()));
+        return new JDBCQueryShape(isKeyset() ? "KEYSET" : "SELECT", components);
+    }
+
+    /**
+     * Returns the shape of the count statement of this select.
+     *
+     * @return the shape of the statement constructed by {@link #constructCountSQL()}
+     */
+    public @NotNull JDBCQueryShape getCountShape() {
+        return new JDBCQueryShape("COUNT", List.of(countExpression(), shape(getQuery().getFilterQueries())));
+    }
+
+    /**
+     * Returns the shape of the exists statement of this select.
+     *
+     * @return the shape of the statement constructed by {@link #constructExistsSQL()}
+     */
+    public @NotNull JDBCQueryShape getExistsShape() {
+        return new JDBCQueryShape("EXISTS", shape(getQuery().getFilterQueries()));
+    }
+
+    /**
+     * Adds the values bound by the statements of this select in the order of their placeholders.
+     *
+     * <p>
+     * The count and exists statements bind the same values as a select, as neither is executed as keyset query.
+     *
+     * @param values the list the values are added to
+     */
+    public void bind(@NotNull List<String> values) {
+        bindWhere(values, getQuery().getFilterQueries());
+
+        String cursor = getQuery().getCursor();
+        if (isKeyset() && Objects.nonNull(cursor)) {
+            KissenQueryCursor position = KissenQueryCursor.decode(cursor);
+            values.addAll(List.of(position.totalId(), position.totalId(), position.key()));
+        }
+    }
+
+    /**
+     * Returns the values bound by the LIMIT and OFFSET clauses of the select statement, in the order of their
+     * placeholders, which follow the values added by {@link #bind(List)}.
+     *
+     * <p>
+     * As SQL does not allow an OFFSET without a LIMIT, the maximum value of a long is used as limit in that case. A
+     * keyset query fetches one row more than the limit.
+     *
+     * @return the limit and offset, as far as the query defines them
+     */
+    public long @NotNull [] bindPagination() {
+        long limit = getQuery().getLimit();
+        if (isKeyset()) {
+            return limit >= 0 ? new long[]{limit + 1} : new long[0];
+        }
+
+        int offset = getQuery().getOffset();
+        if (offset > 0) {
+            return new long[]{limit >= 0 ? limit : Long.MAX_VALUE, offset};
+        }
+        return limit >= 0 ? new long[]{limit} : new long[0];
     }
 
     public @NotNull String constructSQL(@NotNull List<String> values) {
+        bind(values);
+        return constructSQL();
+    }
+
+    public @NotNull String constructSQL() {
         String table = getMeta().getTable().getTable();
-        return String.format(SELECT_FORMAT, columns(), table, where(values, getQuery().getFilterQueries()));
+        String where = where(getQuery().getFilterQueries());
+        if (isKeyset()) {
+            return String.format(SELECT_FORMAT, columns(), table, where + seek(), keysetPagination());
+        }
+        return String.format(SELECT_FORMAT, columns(), table, where, pagination());
     }
 
-    public @NotNull PreparedStatementExecutor executeStatement(@NotNull List<Object[]> results, @NotNull String[] parameter) {
+    /**
+     * Constructs a statement counting the rows matching the filters of the query, or the distinct values of its column
+     * if the query is distinct.
+     *
+     * @return the {@code SELECT COUNT(*)} or {@code SELECT COUNT(DISTINCT column)} statement
+     */
+    public @NotNull String constructCountSQL() {
+        return String.format(COUNT_FORMAT, countExpression(), getMeta().getTable().getTable(), where(getQuery().getFilterQueries()));
+    }
+
+    /**
+     * Returns the expression counted by {@link #constructCountSQL()}.
+     *
+     * @return {@code DISTINCT column} for a distinct query, otherwise {@code *}
+     */
+    private @NotNull String countExpression() {
+        if (getQuery().isDistinct()) {
+            return "DISTINCT " + getMeta().getTable().getColumn(getQuery().getColumns()[0]);
+        }
+        return "*";
+    }
+
+    /**
+     * Constructs a statement returning a single constant row if any row matches the filters of the query.
+     *
+     * @return the {@code SELECT 1 ... LIMIT 1} statement
+     */
+    public @NotNull String constructExistsSQL() {
+        return String.format(EXISTS_FORMAT, getMeta().getTable().getTable(), where(getQuery().getFilterQueries()));
+    }
+
+    /**
+     * Creates an executor storing the first column of the first row as long, used by count and exists statements.
+     *
+     * @param result    the reference the value is stored in, which remains unchanged if no row is returned
+     * @param parameter the values to bind to the statement
+     * @return the executor for the prepared statement
+     */
+    public @NotNull PreparedStatementExecutor executeScalar(@NotNull AtomicLong result, @NotNull String[] parameter) {
         return statement -> {
             setStatementValues(statement, parameter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    result.set(resultSet.getLong(1));
+                }
+            }
+        };
+    }
+
+    public @NotNull PreparedStatementExecutor executeStatement(@NotNull List<Object[]> results, @NotNull String[] parameter) {
+        long[] pagination = bindPagination();
+        return statement -> {
+            setStatementValues(statement, parameter, pagination);
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
                     results.add(handleResult(resultSet));
@@ -78,10 +235,14 @@ public class JDBCSelectQueryExecutor extends JDBCQueryExecutor {
      */
     private @NotNull Object @NotNull [] handleResult(@NotNull ResultSet resultSet) throws SQLException {
         Column[] columns = getQuery().getColumns();
-        Object[] result = new Object[columns.length];
+        Object[] result = new Object[columns.length + (isKeyset() ? 2 : 0)];
         for (int i = 0; i < columns.length; i++) {
             result[i] = handleResult(resultSet, columns[i]);
         }
+        if (isKeyset()) {
+            result[columns.length] = handleResult(resultSet, Column.TOTAL_ID);
+            result[columns.length + 1] = handleResult(resultSet, Column.KEY);
+        }
         return result;
     }
 
@@ -111,25 +272,94 @@ public class JDBCSelectQueryExecutor extends JDBCQueryExecutor {
         return value;
     }
 
+    /**
+     * Constructs the ORDER BY, LIMIT and OFFSET clauses of the select statement.
+     *
+     * <p>
+     * The limit and offset are placeholders, so queries only differing in their page share their statement. Their
+     * values are bound by {@link #bindPagination()}.
+     *
+     * @return the clauses prefixed with a space, or an empty string if the query is neither sorted nor paged
+     */
+    private @NotNull String pagination() {
+        StringBuilder builder = new StringBuilder();
+
+        OrderQuery[] orderQueries = getQuery().getOrderQueries();
+        if (orderQueries.length > 0) {
+            String order = Arrays.stream(orderQueries).map(orderQuery -> {
+                String direction = orderQuery.getDirection() == SortDirection.ASCENDING ? "ASC" : "DESC";
+                return getMeta().getTable().getColumn(orderQuery.getColumn()) + " " + direction;
+            }).collect(Collectors.joining(", "));
+            builder.append(String.format(ORDER_FORMAT, order));
+        }
+
+        int limit = getQuery().getLimit();
+        int offset = getQuery().getOffset();
+        if (limit >= 0 || offset > 0) {
+            builder.append(LIMIT);
+        }
+        if (offset > 0) {
+            builder.append(OFFSET);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Constructs the condition which skips all rows up to the cursor of the query.
+     *
+     * <p>
+     * The rows are compared by total id and key, which identify a row within the plugin scope. Combined with an index
+     * on these columns the database seeks to the first row of the page directly.
+     *
+     * @return the condition prefixed with {@code AND}, or an empty string if the query starts at the first row
+     */
+    private @NotNull String seek() {
+        if (Objects.isNull(getQuery().getCursor())) {
+            return "";
+        }
+
+        Table table = getMeta().getTable();
+        return String.format(KEYSET_FORMAT, table.getColumn(Column.TOTAL_ID), table.getColumn(Column.KEY));
+    }
+
+    /**
+     * Constructs the ORDER BY and LIMIT clauses of a keyset query, which fetches one row more than the limit.
+     *
+     * @return the clauses prefixed with a space
+     */
+    private @NotNull String keysetPagination() {
+        Table table = getMeta().getTable();
+        String order = String.format("%s ASC, %s ASC", table.getColumn(Column.TOTAL_ID), table.getColumn(Column.KEY));
+        String pagination = String.format(ORDER_FORMAT, order);
+
+        return getQuery().getLimit() >= 0 ? pagination + LIMIT : pagination;
+    }
+
     /**
      * Constructs a comma-separated list of column names for use in SQL statements.
      *
      * <p>
      * This method constructs a comma-separated list of column names based on the provided array of {@link Column} objects.
      * It retrieves the column names from the metadata and appends an optional type column for the {@link Column#VALUE} column.
+     * Only the requested columns are read, and the list of a distinct query is prefixed with {@code DISTINCT}.
      *
      * @return a comma-separated list of column names
      * @throws NullPointerException if {@code column} is {@code null}
      * @see Column
      */
     private @NotNull String columns() {
-        return Arrays.stream(getQuery().getColumns()).map(columns -> {
+        Column[] columns = getQuery().getColumns();
+        if (isKeyset()) {
+            columns = Stream.concat(Arrays.stream(columns), Stream.of(Column.TOTAL_ID, Column.KEY)).toArray(Column[]::new);
+        }
+        String list = Arrays.stream(columns).map(column -> {
             Table table = getMeta().getTable();
-            String current = table.getColumn(columns);
-            if (Objects.equals(columns, Column.VALUE)) {
+            String current = table.getColumn(column);
+            if (Objects.equals(column, Column.VALUE)) {
                 return String.format("%s, %s, %s", table.getPluginColumn(), table.getTypeColumn(), current);
             }
             return current;
         }).collect(Collectors.joining(", "));
+        return getQuery().isDistinct() ? "DISTINCT " + list : list;
     }
 }
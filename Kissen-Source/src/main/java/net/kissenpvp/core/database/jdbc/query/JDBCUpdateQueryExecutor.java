@@ -12,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.sql.PreparedStatement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
@@ -43,9 +44,41 @@ public class JDBCUpdateQueryExecutor extends JDBCQueryExecutor {
         this.update = update;
     }
 
+    /**
+     * Returns the shape of this update, which identifies its SQL regardless of the values bound to it.
+     *
+     * @return the shape of the statement constructed by {@link #constructSQL()}
+     */
+    public @NotNull JDBCQueryShape getShape() {
+        List<Column> columns = Arrays.stream(getUpdate().getColumns()).map(Update::column).toList();
+        return new JDBCQueryShape("UPDATE", List.of(columns, shape(getUpdate().getFilterQueries())));
+    }
+
+    /**
+     * Adds the values bound by the SET and the WHERE clause to the given lists, in the order of their placeholders.
+     *
+     * @param update the list the values of the SET clause are added to
+     * @param where  the list the values of the WHERE clause are added to
+     */
+    public void bind(@NotNull List<String> update, @NotNull List<String> where) {
+        for (Update column : getUpdate().getColumns()) {
+            if (Objects.equals(column.column(), Column.VALUE)) {
+                update.addAll(Arrays.asList(getMeta().serialize(column.value())));
+                continue;
+            }
+            update.add(column.value().toString());
+        }
+        bindWhere(where, getUpdate().getFilterQueries());
+    }
+
     public @NotNull String constructSQL(@NotNull List<String> update, @NotNull List<String> where) {
+        bind(update, where);
+        return constructSQL();
+    }
+
+    public @NotNull String constructSQL() {
         FilterQuery[] queries = getUpdate().getFilterQueries();
-        return String.format(UPDATE_FORMAT, getMeta().getTable(), update(update), where(where, queries));
+        return String.format(UPDATE_FORMAT, getMeta().getTable(), update(), where(queries));
     }
 
     /**
@@ -76,26 +109,19 @@ public class JDBCUpdateQueryExecutor extends JDBCQueryExecutor {
      * array of {@link Update} objects. Each directive is used to set a specific column to a new value.
      * The resulting string contains comma-separated assignments of column names to their new values.</p>
      *
-     * @param values  an array of string values used in constructing the SET clause
-     * @param columns an array of {@link Update} objects representing the columns and their new values
      * @return a string representing the SET clause of an SQL UPDATE statement
-     * @throws NullPointerException if the array of values or columns is {@code null}
      * @see Update
      */
-    private @NotNull String update(@NotNull List<String> values) {
+    private @NotNull String update() {
         List<String> col = new ArrayList<>();
 
         for (Update column : getUpdate().getColumns()) {
             if (Objects.equals(column.column(), Column.VALUE)) {
-                String[] serialized = getMeta().serialize(column.value());
                 col.add(getMeta().getTable().getTypeColumn());
-                values.add(serialized[0]);
                 col.add(getMeta().getTable().getColumn(Column.VALUE));
-                values.add(serialized[1]);
                 continue;
             }
             col.add(getMeta().getTable().getColumn(column.column()));
-            values.add(column.value().toString());
         }
 
         return String.join(", ", col.stream().map("%s = ?"::formatted).toArray(String[]::new));
@@ -18,6 +18,7 @@
 
 package net.kissenpvp.core.database.mongodb;
 
+import com.mongodb.MongoWriteException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.UpdateOneModel;
@@ -31,13 +32,17 @@ import net.kissenpvp.core.api.database.queryapi.select.QuerySelect;
 import net.kissenpvp.core.api.database.queryapi.update.QueryUpdate;
 import net.kissenpvp.core.base.KissenCore;
 import net.kissenpvp.core.database.KissenBaseMeta;
+import net.kissenpvp.core.database.mongodb.query.MongoAggregateQueryExecutor;
 import net.kissenpvp.core.database.mongodb.query.MongoSelectQueryExecutor;
 import net.kissenpvp.core.database.mongodb.query.MongoUpdateQueryExecutor;
+import net.kissenpvp.core.database.queryapi.KissenAggregate;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -82,11 +87,66 @@ public abstract class KissenMongoMeta extends KissenBaseMeta {
         return CompletableFuture.supplyAsync(new MongoSelectQueryExecutor(querySelect, this)::select);
     }
 
+    @Override
+    protected @NotNull CompletableFuture<Object[][]> executeKeyset(@NotNull QuerySelect querySelect) throws BackendException {
+        return CompletableFuture.supplyAsync(new MongoSelectQueryExecutor(querySelect, this, true)::select);
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Long> count(@NotNull QuerySelect querySelect) throws BackendException {
+        return CompletableFuture.supplyAsync(new MongoSelectQueryExecutor(querySelect, this)::count);
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Boolean> exists(@NotNull QuerySelect querySelect) throws BackendException {
+        return CompletableFuture.supplyAsync(new MongoSelectQueryExecutor(querySelect, this)::exists);
+    }
+
     @Override
     protected @NotNull CompletableFuture<Long> execute(@NotNull QueryUpdate queryUpdate) throws BackendException {
         return CompletableFuture.supplyAsync(new MongoUpdateQueryExecutor(queryUpdate, this)::execute);
     }
 
+    @Override
+    protected @NotNull CompletableFuture<Double> aggregate(@NotNull KissenAggregate aggregate, @NotNull String key) throws BackendException {
+        return CompletableFuture.supplyAsync(() -> new MongoAggregateQueryExecutor(key, this).aggregate(aggregate));
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Map<String, Double>> top(@NotNull String key, int n) throws BackendException {
+        return CompletableFuture.supplyAsync(() -> new MongoAggregateQueryExecutor(key, this).top(n));
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Boolean> swap(@NotNull String totalId, @NotNull String key, @NotNull Object expected, @NotNull Object newValue) throws BackendException {
+        return CompletableFuture.supplyAsync(() -> {
+            String[] current = serialize(expected), replacement = serialize(newValue);
+            Bson filter = Filters.and(Filters.eq(getTable().getColumn(Column.TOTAL_ID), totalId), Filters.eq(getTable().getColumn(Column.KEY), key), Filters.eq(getTable().getPluginColumn(), getPluginName()), Filters.eq(getTable().getTypeColumn(), current[0]), Filters.eq(getTable().getColumn(Column.VALUE), current[1]));
+
+            Document document = new Document(getTable().getTypeColumn(), replacement[0]).append(getTable().getColumn(Column.VALUE), replacement[1]);
+            return getCollection().updateOne(filter, new Document("$set", document)).getMatchedCount() > 0;
+        });
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<Void> add(@NotNull String totalId, @NotNull String key, long delta) throws BackendException {
+        return CompletableFuture.runAsync(() -> {
+            String value = "$" + getTable().getColumn(Column.VALUE), type = "$" + getTable().getTypeColumn();
+
+            // values are stored as json strings, so the pipeline converts them to a decimal and back within the update
+            Document sum = new Document("$add", List.of(new Document("$toDecimal", new Document("$ifNull", List.of(value, "0"))), delta));
+            Document document = new Document(getTable().getColumn(Column.VALUE), new Document("$toString", sum));
+            document.append(getTable().getTypeColumn(), new Document("$ifNull", List.of(type, Long.class.getName())));
+
+            Bson filter = Filters.and(Filters.eq(getTable().getColumn(Column.TOTAL_ID), totalId), Filters.eq(getTable().getColumn(Column.KEY), key), Filters.eq(getTable().getPluginColumn(), getPluginName()));
+            try {
+                getCollection().updateOne(filter, List.of(new Document("$set", document)), new UpdateOptions().upsert(true));
+            } catch (MongoWriteException mongoWriteException) {
+                throw new IllegalStateException(String.format("The value of key %s in %s is not numeric.", key, totalId), mongoWriteException);
+            }
+        });
+    }
+
     @Contract(pure = true)
     private @NotNull Function<Map.Entry<String, Object>, WriteModel<Document>> buildUpdateQuery(@NotNull String id) {
         return value -> {
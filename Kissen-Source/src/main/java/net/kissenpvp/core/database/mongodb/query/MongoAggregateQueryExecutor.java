@@ -0,0 +1,111 @@
+package net.kissenpvp.core.database.mongodb.query;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BsonField;
+import com.mongodb.client.model.Field;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import lombok.Getter;
+import net.kissenpvp.core.api.database.meta.Table;
+import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.database.mongodb.KissenMongoMeta;
+import net.kissenpvp.core.database.queryapi.KissenAggregate;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Computes aggregates over the numeric values stored behind a key in MongoDB.
+ *
+ * <p>
+ * As values are stored as JSON strings, each matching document is converted to a number within an aggregation
+ * pipeline, so the database computes the aggregate or sorts the documents without transferring them. Documents whose
+ * value cannot be converted are excluded.
+ * </p>
+ *
+ * @see MongoQueryExecutor
+ */
+@Getter
+public class MongoAggregateQueryExecutor extends MongoQueryExecutor {
+
+    private static final String NUMBER = "number";
+    private static final String RESULT = "result";
+    private final String key;
+
+    /**
+     * Constructs a new MongoAggregateQueryExecutor for the values stored behind the given key.
+     *
+     * @param key  the key whose values are aggregated
+     * @param meta the MongoDB metadata
+     */
+    public MongoAggregateQueryExecutor(@NotNull String key, @NotNull KissenMongoMeta meta) {
+        super(meta);
+        this.key = key;
+    }
+
+    /**
+     * Computes the given aggregate function over the numeric values.
+     *
+     * @param aggregate the aggregate function to compute
+     * @return the result, or {@code null} if no numeric value is stored
+     */
+    public @Nullable Double aggregate(@NotNull KissenAggregate aggregate) {
+        String number = "$" + NUMBER;
+        BsonField accumulator = switch (aggregate) {
+            case MAX -> Accumulators.max(RESULT, number);
+            case MIN -> Accumulators.min(RESULT, number);
+            case SUM -> Accumulators.sum(RESULT, number);
+        };
+
+        List<Bson> pipeline = List.of(Aggregates.match(filter()), convert(), Aggregates.match(Filters.ne(NUMBER, null)), Aggregates.group(null, accumulator));
+        Document result = getMeta().getCollection().aggregate(pipeline).first();
+        return Objects.isNull(result) ? null : result.get(RESULT, Number.class).doubleValue();
+    }
+
+    /**
+     * Retrieves the total ids of the documents with the greatest numeric values.
+     *
+     * @param n the maximum amount of documents
+     * @return the total ids mapped to their values, in descending order of the values
+     */
+    public @NotNull Map<String, Double> top(int n) {
+        String totalId = getMeta().getTable().getColumn(Column.TOTAL_ID);
+        List<Bson> pipeline = List.of(Aggregates.match(filter()), convert(), Aggregates.match(Filters.ne(NUMBER, null)), Aggregates.sort(Sorts.descending(NUMBER)), Aggregates.limit(n), Aggregates.project(Projections.fields(Projections.include(totalId, NUMBER), Projections.excludeId())));
+
+        Map<String, Double> top = new LinkedHashMap<>();
+        for (Document document : getMeta().getCollection().aggregate(pipeline)) {
+            top.put(document.getString(totalId), document.get(NUMBER, Number.class).doubleValue());
+        }
+        return top;
+    }
+
+    /**
+     * Creates the filter matching the documents of the key within the scope of the plugin.
+     *
+     * @return the filter on the key and plugin field
+     */
+    private @NotNull Bson filter() {
+        Table table = getMeta().getTable();
+        String plugin = Objects.isNull(getMeta().getPlugin()) ? null : getMeta().getPlugin().getName();
+        return Filters.and(Filters.eq(table.getColumn(Column.KEY), getKey()), Filters.eq(table.getPluginColumn(), plugin));
+    }
+
+    /**
+     * Creates the stage converting the stored JSON string into a number, which is {@code null} if the conversion fails.
+     *
+     * @return the stage adding the converted number to each document
+     */
+    private @NotNull Bson convert() {
+        String value = "$" + getMeta().getTable().getColumn(Column.VALUE);
+        Document conversion = new Document("input", value).append("to", "double").append("onError", null).append("onNull", null);
+        return Aggregates.addFields(new Field<>(NUMBER, new Document("$convert", conversion)));
+    }
+}
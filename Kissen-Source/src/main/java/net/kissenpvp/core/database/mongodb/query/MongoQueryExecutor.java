@@ -6,14 +6,17 @@ import lombok.Getter;
 import net.kissenpvp.core.api.database.queryapi.Column;
 import net.kissenpvp.core.api.database.queryapi.FilterOperator;
 import net.kissenpvp.core.api.database.queryapi.FilterQuery;
+import net.kissenpvp.core.api.database.queryapi.FilterType;
 import net.kissenpvp.core.database.mongodb.KissenMongoMeta;
 import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * A utility class for executing MongoDB queries.
@@ -28,6 +31,11 @@ import java.util.Objects;
 @AllArgsConstructor
 public class MongoQueryExecutor {
 
+    /**
+     * Matches an element of a serialized collection, which is stored as compact JSON array. The element must either
+     * follow the opening bracket or a comma and be followed by a comma or the closing bracket.
+     */
+    private static final String CONTAINS_PATTERN = "(^\\[|,)%s(,|\\]$)";
     private final @NotNull KissenMongoMeta meta;
 
     /**
@@ -36,7 +44,9 @@ public class MongoQueryExecutor {
      * <p>
      * This method constructs a BSON filter representing a logical OR operation based on the provided array of {@link FilterQuery} objects.
      * It creates a list of BSON filters using the {@link #getFilters(List, FilterQuery[])} method, and then combines them using the
-     * {@link Filters#or(Bson...)} method to form a single filter representing the logical OR operation.
+     * {@link Filters#or(Bson...)} method to form a single filter representing the logical OR operation. The result is
+     * restricted to the documents of the plugin of the meta, or to internal documents if the meta has no plugin, the
+     * same way the JDBC implementation scopes its statements.
      * </p>
      *
      * @param filterQueries an array of {@link FilterQuery} objects representing the filter conditions
@@ -47,13 +57,15 @@ public class MongoQueryExecutor {
      * @see #getFilters(List, FilterQuery[])
      */
     protected @NotNull @Unmodifiable Bson where(@NotNull FilterQuery @NotNull [] filterQueries) {
+        String plugin = Objects.isNull(getMeta().getPlugin()) ? null : getMeta().getPlugin().getName();
+        Bson scope = Filters.eq(getMeta().getTable().getPluginColumn(), plugin);
+        if (filterQueries.length == 0) {
+            return scope;
+        }
+
         List<Bson> total = new ArrayList<>();
         getFilters(total, filterQueries);
-        if(Objects.nonNull(getMeta().getPlugin()))
-        {
-            total.add(Filters.eq(getMeta().getTable().getPluginColumn(), getMeta().getPlugin().getName()));
-        }
-        return Filters.or(total);
+        return Filters.and(Filters.or(total), scope);
     }
 
     /**
@@ -95,6 +107,10 @@ public class MongoQueryExecutor {
      * <p>
      * This method generates a BSON filter based on the provided {@link FilterQuery}. It converts the value of the filter
      * to a string representation and constructs the appropriate BSON filter using the {@link Filters#regex(String, String)} method.
+     * As values are stored as JSON strings, typed {@link FilterType#EQUALS} filters compare the serialized value with
+     * {@link Filters#eq(String, Object)}, which an index on the field can serve, and {@link FilterType#CONTAINS} filters
+     * search the serialized element between the delimiters of the stored array. {@link FilterType#IN} filters are
+     * translated to {@link Filters#in(String, Iterable)}.
      * If the column of the filter is {@link Column#VALUE}, it serializes the value using the metadata and retrieves the second element
      * of the serialized array (assuming the first element is not required).
      *
@@ -108,11 +124,21 @@ public class MongoQueryExecutor {
      * @see net.kissenpvp.core.database.KissenBaseMeta#serialize(Object)
      */
     private @NotNull Bson createFilter(@NotNull FilterQuery filterQuery) {
+        String column = getMeta().getTable().getColumn(filterQuery.getColumn());
+        if (filterQuery.getValue() instanceof Collection<?> elements && filterQuery.getFilterType() == FilterType.IN) {
+            return Filters.in(column, elements);
+        }
+
         String value = filterQuery.getValue().toString();
         if (Objects.equals(filterQuery.getColumn(), Column.VALUE)) {
             value = getMeta().serialize(filterQuery.getValue())[1];
         }
 
-        return Filters.regex(getMeta().getTable().getColumn(filterQuery.getColumn()), value);
+        return switch (filterQuery.getFilterType()) {
+            case MATCHES -> Filters.regex(column, value);
+            case EQUALS -> Filters.eq(column, value);
+            case CONTAINS -> Filters.regex(column, String.format(CONTAINS_PATTERN, Pattern.quote(value)));
+            case IN -> throw new IllegalStateException("The values of an IN filter must be a collection.");
+        };
     }
 }
@@ -1,18 +1,30 @@
 package net.kissenpvp.core.database.mongodb.query;
 
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.kissenpvp.core.api.database.meta.Table;
 import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.OrderQuery;
+import net.kissenpvp.core.api.database.queryapi.SortDirection;
 import net.kissenpvp.core.api.database.queryapi.select.QuerySelect;
 import net.kissenpvp.core.database.mongodb.KissenMongoMeta;
+import net.kissenpvp.core.database.queryapi.KissenQueryCursor;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -29,6 +41,7 @@ import java.util.function.Consumer;
 public class MongoSelectQueryExecutor extends MongoQueryExecutor {
 
     private final QuerySelect select;
+    private final boolean keyset;
 
     /**
      * Constructs a new MongoSelectQueryExecutor with the specified select query and MongoDB metadata.
@@ -38,8 +51,25 @@ public class MongoSelectQueryExecutor extends MongoQueryExecutor {
      * @throws NullPointerException if either the select query or the MongoDB metadata is {@code null}
      */
     public MongoSelectQueryExecutor(@NotNull QuerySelect select, @NotNull KissenMongoMeta meta) {
+        this(select, meta, false);
+    }
+
+    /**
+     * Constructs a new MongoSelectQueryExecutor which optionally executes the query as keyset query.
+     *
+     * <p>A keyset query only returns the documents behind the cursor of the select, ordered by total id and key, and
+     * fetches one document more than the limit. Each row is extended by its total id and key, so the next cursor can be
+     * created from it.</p>
+     *
+     * @param select the select query to be executed
+     * @param meta   the MongoDB metadata
+     * @param keyset whether the query should be executed as keyset query
+     * @see net.kissenpvp.core.database.queryapi.KissenQueryPage
+     */
+    public MongoSelectQueryExecutor(@NotNull QuerySelect select, @NotNull KissenMongoMeta meta, boolean keyset) {
         super(meta);
         this.select = select;
+        this.keyset = keyset;
     }
 
     /**
@@ -53,21 +83,181 @@ public class MongoSelectQueryExecutor extends MongoQueryExecutor {
      */
     public @NotNull Object[][] select() {
         List<Object[]> data = new ArrayList<>();
-        find(super.where(getSelect().getFilterQueries()), handleResponse(data));
+        Bson filter = super.where(getSelect().getFilterQueries());
+        if (isKeyset()) {
+            seek(filter, handleResponse(data));
+        } else if (getSelect().isDistinct()) {
+            distinct(filter, data);
+        } else {
+            find(filter, handleResponse(data));
+        }
         return data.toArray(Object[][]::new);
     }
 
+    /**
+     * Counts the documents matching the filter queries, without fetching them.
+     *
+     * @return the amount of matching documents
+     */
+    public long count() {
+        Bson filter = super.where(getSelect().getFilterQueries());
+        if (getSelect().isDistinct()) {
+            List<Bson> pipeline = List.of(Aggregates.match(filter), Aggregates.group(field(getSelect().getColumns()[0])), Aggregates.count());
+            Document result = getMeta().getCollection().aggregate(pipeline).first();
+            return Objects.isNull(result) ? 0 : result.getInteger("count");
+        }
+        return getMeta().getCollection().countDocuments(filter);
+    }
+
+    /**
+     * Checks whether any document matches the filter queries.
+     *
+     * <p>Only the identifier of the first matching document is fetched, so no value is transferred.</p>
+     *
+     * @return {@code true} if at least one document matches
+     */
+    public boolean exists() {
+        Bson filter = super.where(getSelect().getFilterQueries());
+        return Objects.nonNull(getMeta().getCollection().find(filter).projection(Projections.include("_id")).limit(1).first());
+    }
+
+    /**
+     * Finds the documents following the cursor of the query, ordered by total id and key.
+     *
+     * <p>Instead of skipping the documents of the previous pages, the filter is extended by a range condition on the
+     * total id and key, so an index on these fields lets the database start at the first document of the page.
+     * One document more than the limit is fetched to tell whether another page follows.</p>
+     *
+     * @param filter  the filter to apply when searching for documents
+     * @param consume the action to perform on each document found
+     */
+    private void seek(@NotNull Bson filter, @NotNull Consumer<Document> consume) {
+        String totalId = getMeta().getTable().getColumn(Column.TOTAL_ID);
+        String key = getMeta().getTable().getColumn(Column.KEY);
+
+        String cursor = getSelect().getCursor();
+        if (Objects.nonNull(cursor)) {
+            KissenQueryCursor position = KissenQueryCursor.decode(cursor);
+            Bson after = Filters.and(Filters.eq(totalId, position.totalId()), Filters.gt(key, position.key()));
+            filter = Filters.and(filter, Filters.or(Filters.gt(totalId, position.totalId()), after));
+        }
+
+        FindIterable<Document> iterable = getMeta().getCollection().find(filter).projection(projection()).sort(Sorts.ascending(totalId, key));
+        if (getSelect().getLimit() >= 0) {
+            iterable = iterable.limit(getSelect().getLimit() + 1);
+        }
+        iterable.forEach(consume);
+    }
+
     /**
      * Finds documents in the database collection that match the specified filter and performs the specified action on each document.
      *
      * <p>This method executes a database query to find documents in the collection that match the specified filter. It then performs the specified action on each document found. The action is represented by the provided {@link Consumer}, which processes each document.</p>
      *
+     * <p>The sort conditions, the offset and the limit of the query are passed to the cursor, so the database only returns the requested documents.</p>
+     *
      * @param filter  the filter to apply when searching for documents
      * @param consume the action to perform on each document found
      * @throws NullPointerException if either the filter or the consumer is `null`
      */
     private void find(@NotNull Bson filter, @NotNull Consumer<Document> consume) {
-        getMeta().getCollection().find(filter).forEach(consume);
+        if (getSelect().getLimit() == 0) {
+            return; // a limit of zero means no limit in mongodb
+        }
+
+        FindIterable<Document> iterable = getMeta().getCollection().find(filter).projection(projection());
+        OrderQuery[] orderQueries = getSelect().getOrderQueries();
+        if (orderQueries.length > 0) {
+            iterable = iterable.sort(Sorts.orderBy(Arrays.stream(orderQueries).map(this::sort).toList()));
+        }
+        if (getSelect().getOffset() > 0) {
+            iterable = iterable.skip(getSelect().getOffset());
+        }
+        if (getSelect().getLimit() > 0) {
+            iterable = iterable.limit(getSelect().getLimit());
+        }
+        iterable.forEach(consume);
+    }
+
+    /**
+     * Collects each distinct value of the selected column of the documents matching the filter.
+     *
+     * <p>The documents are grouped by the column on the database, so only the distinct values are transferred. As the
+     * grouped value is the identifier of the resulting documents, sort conditions on the column are applied to
+     * {@code _id}. Documents without the column are not part of the result.</p>
+     *
+     * @param filter the filter to apply when searching for documents
+     * @param data   the list the distinct values are added to, each as a row with a single element
+     */
+    private void distinct(@NotNull Bson filter, @NotNull List<Object[]> data) {
+        if (getSelect().getLimit() == 0) {
+            return;
+        }
+
+        List<Bson> pipeline = new ArrayList<>(List.of(Aggregates.match(filter), Aggregates.group(field(getSelect().getColumns()[0]))));
+        OrderQuery[] orderQueries = getSelect().getOrderQueries();
+        if (orderQueries.length > 0) {
+            pipeline.add(Aggregates.sort(orderQueries[0].getDirection() == SortDirection.ASCENDING ? Sorts.ascending("_id") : Sorts.descending("_id")));
+        }
+        if (getSelect().getOffset() > 0) {
+            pipeline.add(Aggregates.skip(getSelect().getOffset()));
+        }
+        if (getSelect().getLimit() > 0) {
+            pipeline.add(Aggregates.limit(getSelect().getLimit()));
+        }
+
+        for (Document document : getMeta().getCollection().aggregate(pipeline)) {
+            String value = document.getString("_id");
+            if (Objects.nonNull(value)) {
+                data.add(new Object[]{value});
+            }
+        }
+    }
+
+    /**
+     * Creates the projection of the query, which only includes the fields required to build the rows.
+     *
+     * <p>The value is only fetched if it has been selected, together with its type and plugin. Keyset queries
+     * additionally fetch the total id and key of each document for the cursor.</p>
+     *
+     * @return the projection including the required fields and excluding {@code _id}
+     */
+    private @NotNull Bson projection() {
+        Table table = getMeta().getTable();
+        Set<String> fields = new LinkedHashSet<>();
+        for (Column column : getSelect().getColumns()) {
+            if (Objects.equals(column, Column.VALUE)) {
+                fields.add(table.getPluginColumn());
+                fields.add(table.getTypeColumn());
+            }
+            fields.add(table.getColumn(column));
+        }
+        if (isKeyset()) {
+            fields.add(table.getColumn(Column.TOTAL_ID));
+            fields.add(table.getColumn(Column.KEY));
+        }
+        return Projections.fields(Projections.include(List.copyOf(fields)), Projections.excludeId());
+    }
+
+    /**
+     * Returns the field path expression of the given column, as used by aggregation stages.
+     *
+     * @param column the column to reference
+     * @return the name of the column prefixed with {@code $}
+     */
+    private @NotNull String field(@NotNull Column column) {
+        return "$" + getMeta().getTable().getColumn(column);
+    }
+
+    /**
+     * Translates the given {@link OrderQuery} into a BSON sort specification.
+     *
+     * @param orderQuery the sort condition to translate
+     * @return the BSON sort specification for the column of the condition
+     */
+    private @NotNull Bson sort(@NotNull OrderQuery orderQuery) {
+        String column = getMeta().getTable().getColumn(orderQuery.getColumn());
+        return orderQuery.getDirection() == SortDirection.ASCENDING ? Sorts.ascending(column) : Sorts.descending(column);
     }
 
     /**
@@ -83,9 +273,14 @@ public class MongoSelectQueryExecutor extends MongoQueryExecutor {
     private @NotNull Consumer<Document> handleResponse(@NotNull List<Object[]> data) {
         return (document) -> {
             try {
-                Object[] result = new Object[getSelect().getColumns().length];
-                for (int i = 0; i < getSelect().getColumns().length; i++) {
-                    result[i] = handleResponse(select.getColumns()[i], document);
+                Column[] columns = getSelect().getColumns();
+                Object[] result = new Object[columns.length + (isKeyset() ? 2 : 0)];
+                for (int i = 0; i < columns.length; i++) {
+                    result[i] = handleResponse(columns[i], document);
+                }
+                if (isKeyset()) {
+                    result[columns.length] = handleResponse(Column.TOTAL_ID, document);
+                    result[columns.length + 1] = handleResponse(Column.KEY, document);
                 }
                 data.add(result);
             } catch (ClassNotFoundException classNotFoundException) {
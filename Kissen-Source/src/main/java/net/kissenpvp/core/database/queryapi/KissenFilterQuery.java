@@ -21,18 +21,53 @@ package net.kissenpvp.core.database.queryapi;
 import net.kissenpvp.core.api.database.queryapi.Column;
 import net.kissenpvp.core.api.database.queryapi.FilterOperator;
 import net.kissenpvp.core.api.database.queryapi.FilterQuery;
+import net.kissenpvp.core.api.database.queryapi.FilterType;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
-public record KissenFilterQuery(@NotNull Column column, @NotNull Object value, @NotNull FilterOperator filterOperator) implements FilterQuery
+public record KissenFilterQuery(@NotNull Column column, @NotNull Object value, @NotNull FilterOperator filterOperator, @NotNull FilterType filterType) implements FilterQuery
 {
     public KissenFilterQuery {
-        if(!Objects.equals(column, Column.VALUE) && !(value instanceof String))
+        if(Objects.equals(filterType, FilterType.IN))
+        {
+            value = validateIn(column, value);
+        }
+
+        if(!Objects.equals(column, Column.VALUE) && !(value instanceof String) && !Objects.equals(filterType, FilterType.IN))
         {
             String exceptionMessage = "Only String values are allowed for column %s.";
             throw new IllegalArgumentException(String.format(exceptionMessage, column));
         }
+
+        if(!Objects.equals(column, Column.VALUE) && !Objects.equals(filterType, FilterType.MATCHES) && !Objects.equals(filterType, FilterType.IN))
+        {
+            String exceptionMessage = "The filter type %s is only allowed for column %s.";
+            throw new IllegalArgumentException(String.format(exceptionMessage, filterType, Column.VALUE));
+        }
+    }
+
+    public KissenFilterQuery(@NotNull Column column, @NotNull Object value, @NotNull FilterOperator filterOperator)
+    {
+        this(column, value, filterOperator, FilterType.MATCHES);
+    }
+
+    private static @NotNull List<String> validateIn(@NotNull Column column, @NotNull Object value)
+    {
+        if(Objects.equals(column, Column.VALUE))
+        {
+            String exceptionMessage = "The filter type %s is not allowed for column %s.";
+            throw new IllegalArgumentException(String.format(exceptionMessage, FilterType.IN, Column.VALUE));
+        }
+
+        if(!(value instanceof Collection<?> collection) || collection.isEmpty() || !collection.stream().allMatch(String.class::isInstance))
+        {
+            String exceptionMessage = "The filter type %s requires a non-empty collection of String values.";
+            throw new IllegalArgumentException(String.format(exceptionMessage, FilterType.IN));
+        }
+        return collection.stream().map(String.class::cast).toList();
     }
 
     @Override public @NotNull Column getColumn()
@@ -49,4 +84,9 @@ public record KissenFilterQuery(@NotNull Column column, @NotNull Object value, @
     public @NotNull FilterOperator getFilterOperator() {
         return filterOperator;
     }
+
+    @Override
+    public @NotNull FilterType getFilterType() {
+        return filterType;
+    }
 }
@@ -22,6 +22,8 @@ import net.kissenpvp.core.api.database.queryapi.*;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 public class KissenQueryComponent<T extends QueryComponent<?>> implements QueryComponent<T>
@@ -33,6 +35,11 @@ public class KissenQueryComponent<T extends QueryComponent<?>> implements QueryC
         this.filterQueries = new ArrayList<>();
     }
 
+    protected KissenQueryComponent(@NotNull FilterQuery[] filterQueries)
+    {
+        this.filterQueries = new ArrayList<>(Arrays.asList(filterQueries));
+    }
+
     @Override public FilterQuery[] getFilterQueries()
     {
         return filterQueries.toArray(new FilterQuery[0]);
@@ -41,7 +48,7 @@ public class KissenQueryComponent<T extends QueryComponent<?>> implements QueryC
     @Override
     public @NotNull T or(@NotNull Column column, @NotNull Object value) {
         filterQueries.add(new KissenFilterQuery(column, value, FilterOperator.OR));
-        return (T) this;
+        return self();
     }
 
     @Override
@@ -52,7 +59,7 @@ public class KissenQueryComponent<T extends QueryComponent<?>> implements QueryC
     @Override
     public @NotNull T and(@NotNull Column column, @NotNull Object value) {
         filterQueries.add(new KissenFilterQuery(column, value, FilterOperator.AND));
-        return (T) this;
+        return self();
     }
 
     @Override
@@ -60,9 +67,61 @@ public class KissenQueryComponent<T extends QueryComponent<?>> implements QueryC
         return and(column, String.format("\\b%s\\b", value));
     }
 
+    @Override
+    public @NotNull T orValueEquals(@NotNull Object value) {
+        filterQueries.add(new KissenFilterQuery(Column.VALUE, value, FilterOperator.OR, FilterType.EQUALS));
+        return self();
+    }
+
+    @Override
+    public @NotNull T andValueEquals(@NotNull Object value) {
+        filterQueries.add(new KissenFilterQuery(Column.VALUE, value, FilterOperator.AND, FilterType.EQUALS));
+        return self();
+    }
+
+    @Override
+    public @NotNull T orValueContains(@NotNull Object element) {
+        filterQueries.add(new KissenFilterQuery(Column.VALUE, element, FilterOperator.OR, FilterType.CONTAINS));
+        return self();
+    }
+
+    @Override
+    public @NotNull T andValueContains(@NotNull Object element) {
+        filterQueries.add(new KissenFilterQuery(Column.VALUE, element, FilterOperator.AND, FilterType.CONTAINS));
+        return self();
+    }
+
+    @Override
+    public @NotNull T orIn(@NotNull Column column, @NotNull Collection<String> values) {
+        filterQueries.add(new KissenFilterQuery(column, values, FilterOperator.OR, FilterType.IN));
+        return self();
+    }
+
+    @Override
+    public @NotNull T andIn(@NotNull Column column, @NotNull Collection<String> values) {
+        filterQueries.add(new KissenFilterQuery(column, values, FilterOperator.AND, FilterType.IN));
+        return self();
+    }
+
     public @NotNull T initialise(@NotNull Column column, @NotNull Object value)
     {
-        filterQueries.add(new KissenFilterQuery(column, value, FilterOperator.INIT));
+        return initialise(column, value, FilterType.MATCHES);
+    }
+
+    public @NotNull T initialise(@NotNull Column column, @NotNull Object value, @NotNull FilterType filterType)
+    {
+        filterQueries.add(new KissenFilterQuery(column, value, FilterOperator.INIT, filterType));
+        return self();
+    }
+
+    /**
+     * Returns this component as the query interface {@code T} its subclass implements.
+     *
+     * @return this component.
+     */
+    @SuppressWarnings("unchecked") // every subclass implements the interface it passes as T
+    protected @NotNull T self()
+    {
         return (T) this;
     }
 }
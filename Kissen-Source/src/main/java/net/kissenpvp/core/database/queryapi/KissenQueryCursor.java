@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package net.kissenpvp.core.database.queryapi;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The position behind which a cursor paginated select query continues, which is the total id and key of the last row
+ * of the previous page.
+ *
+ * <p>The position is exchanged as an opaque, url safe token, so callers do not depend on its content.
+ */
+public record KissenQueryCursor(@NotNull String totalId, @NotNull String key)
+{
+    private static final char SEPARATOR = '\0';
+
+    /**
+     * Decodes the given continuation token.
+     *
+     * @param cursor the token to decode
+     * @return the position the token points to
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static @NotNull KissenQueryCursor decode(@NotNull String cursor)
+    {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(SEPARATOR);
+        if (separator == -1)
+        {
+            throw new IllegalArgumentException(String.format("The cursor %s is malformed.", cursor));
+        }
+        return new KissenQueryCursor(decoded.substring(0, separator), decoded.substring(separator + 1));
+    }
+
+    /**
+     * Encodes this position into a continuation token.
+     *
+     * @return the token pointing to this position
+     */
+    public @NotNull String encode()
+    {
+        byte[] bytes = (totalId + SEPARATOR + key).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
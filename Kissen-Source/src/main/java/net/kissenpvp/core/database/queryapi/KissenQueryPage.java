@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package net.kissenpvp.core.database.queryapi;
+
+import net.kissenpvp.core.api.database.queryapi.select.QueryPage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+public record KissenQueryPage(@NotNull Object[][] rows, @Nullable String continuation) implements QueryPage
+{
+    /**
+     * Creates a page out of the rows returned by a keyset query.
+     *
+     * <p>Every row is expected to end with its total id and key, which are removed from the page. As the keyset query
+     * fetches one row more than requested, the existence of that row tells whether another page follows.
+     *
+     * @param rows  the rows returned by the keyset query
+     * @param limit the maximum amount of rows on this page, or {@code -1} if the page is unlimited
+     * @return the page containing at most {@code limit} rows
+     */
+    public static @NotNull KissenQueryPage of(@NotNull Object[][] rows, int limit)
+    {
+        boolean next = limit >= 0 && rows.length > limit;
+        Object[][] page = next ? Arrays.copyOf(rows, limit) : rows;
+
+        String continuation = null;
+        if (next)
+        {
+            Object[] last = page[page.length - 1];
+            continuation = new KissenQueryCursor(last[last.length - 2].toString(), last[last.length - 1].toString()).encode();
+        }
+
+        for (int i = 0; i < page.length; i++)
+        {
+            page[i] = Arrays.copyOf(page[i], page[i].length - 2);
+        }
+        return new KissenQueryPage(page, continuation);
+    }
+
+    @Override public @NotNull Object[][] getRows()
+    {
+        return rows;
+    }
+
+    @Override public @Nullable String getContinuation()
+    {
+        return continuation;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.queryapi;
+
+import net.kissenpvp.core.api.database.queryapi.select.QueryPage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Publisher} emitting the rows of a select query, which are fetched page by page as the subscriber
+ * requests them.
+ *
+ * <p>A page is only fetched once the rows of the previous page have been emitted and the subscriber has outstanding
+ * demand, so at most one page is held in memory. All signals to the subscriber are serialized by a work counter, which
+ * lets the rows of a page be emitted from the thread completing the fetch as well as the thread requesting them.
+ *
+ * <p>The publisher can only be subscribed once, as the function fetching its pages keeps track of the rows read.
+ */
+public class KissenQueryPublisher implements Flow.Publisher<Object[]> {
+
+    private final @Nullable String cursor;
+    private final Function<@Nullable String, CompletableFuture<QueryPage>> fetch;
+    private final AtomicBoolean subscribed;
+
+    /**
+     * Creates a publisher starting at the given cursor.
+     *
+     * @param cursor the continuation token of the first page, or {@code null} to start at the first row
+     * @param fetch  the function fetching the page following the given continuation token
+     */
+    public KissenQueryPublisher(@Nullable String cursor, @NotNull Function<@Nullable String, CompletableFuture<QueryPage>> fetch) {
+        this.cursor = cursor;
+        this.fetch = fetch;
+        this.subscribed = new AtomicBoolean();
+    }
+
+    @Override
+    public void subscribe(@NotNull Flow.Subscriber<? super Object[]> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("The rows of a query can only be published to a single subscriber."));
+            return;
+        }
+        RowSubscription subscription = new RowSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class RowSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Object[]> subscriber;
+        private final Deque<Object[]> rows;
+        private final AtomicLong demand;
+        private final AtomicInteger work;
+        private @Nullable String next;
+        private boolean exhausted, fetching, done;
+        private volatile boolean cancelled;
+        private volatile QueryPage received;
+        private volatile Throwable failure;
+
+        private RowSubscription(@NotNull Flow.Subscriber<? super Object[]> subscriber) {
+            this.subscriber = subscriber;
+            this.rows = new ArrayDeque<>();
+            this.demand = new AtomicLong();
+            this.work = new AtomicInteger();
+            this.next = cursor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException(String.format("The amount of requested rows must be positive, %s given.", n));
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return; // the thread currently draining picks up the new state
+            }
+
+            do {
+                emit();
+            } while (work.decrementAndGet() != 0);
+        }
+
+        private void emit() {
+            if (done || cancelled) {
+                return;
+            }
+
+            if (failure != null) {
+                done = true;
+                subscriber.onError(failure);
+                return;
+            }
+
+            QueryPage page = received;
+            if (fetching && page != null) {
+                received = null;
+                fetching = false;
+                rows.addAll(Arrays.asList(page.getRows()));
+                next = page.getContinuation();
+                exhausted = !page.hasNext();
+            }
+
+            while (!cancelled && demand.get() > 0 && !rows.isEmpty()) {
+                demand.decrementAndGet();
+                subscriber.onNext(rows.poll());
+            }
+
+            if (cancelled || fetching || !rows.isEmpty()) {
+                return;
+            }
+
+            if (exhausted) {
+                done = true;
+                subscriber.onComplete();
+            } else if (demand.get() > 0) {
+                fetching = true;
+                try {
+                    fetch.apply(next).whenComplete(this::receive);
+                } catch (RuntimeException exception) {
+                    failure = exception;
+                    emit();
+                }
+            }
+        }
+
+        private void receive(@Nullable QueryPage page, @Nullable Throwable throwable) {
+            if (throwable != null || page == null) {
+                failure = Objects.requireNonNullElseGet(throwable, () -> new IllegalStateException("The page could not be fetched."));
+            } else {
+                received = page;
+            }
+            drain();
+        }
+    }
+}
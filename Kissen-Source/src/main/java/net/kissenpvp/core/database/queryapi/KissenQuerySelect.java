@@ -19,16 +19,96 @@
 package net.kissenpvp.core.database.queryapi;
 
 import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.OrderQuery;
+import net.kissenpvp.core.api.database.queryapi.SortDirection;
+import net.kissenpvp.core.api.database.queryapi.select.QueryPage;
 import net.kissenpvp.core.api.database.queryapi.select.QuerySelect;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 public abstract class KissenQuerySelect extends KissenQueryComponent<QuerySelect> implements QuerySelect {
     private final Column[] columns;
+    private final boolean distinct;
+    private final List<OrderQuery> orderQueries;
+    private int limit;
+    private int offset;
+    private String cursor;
 
     public KissenQuerySelect(@NotNull Column... columns) {
+        this(false, columns);
+    }
+
+    public KissenQuerySelect(boolean distinct, @NotNull Column... columns) {
+        if (distinct && (columns.length != 1 || columns[0] == Column.VALUE)) {
+            throw new IllegalArgumentException("A distinct select requires a single column other than VALUE.");
+        }
         this.columns = columns;
+        this.distinct = distinct;
+        this.orderQueries = new ArrayList<>();
+        this.limit = -1;
+        this.offset = 0;
+    }
+
+    private KissenQuerySelect(@NotNull QuerySelect querySelect, int limit, @Nullable String cursor) {
+        super(querySelect.getFilterQueries());
+        this.columns = querySelect.getColumns();
+        this.distinct = querySelect.isDistinct();
+        this.orderQueries = new ArrayList<>(Arrays.asList(querySelect.getOrderQueries()));
+        this.limit = limit;
+        this.offset = querySelect.getOffset();
+        this.cursor = cursor;
+    }
+
+    /**
+     * Creates a detached copy of the given query, which selects at most {@code limit} rows behind the given cursor.
+     *
+     * <p>The copy only describes the page and cannot be executed itself. It lets a query be fetched page by page
+     * without changing the limit or cursor of the query the caller holds.
+     *
+     * @param querySelect the query to copy
+     * @param limit       the maximum amount of rows on the page
+     * @param cursor      the continuation token of the page, or {@code null} to start at the first row
+     * @return the copy of the query
+     */
+    public static @NotNull QuerySelect page(@NotNull QuerySelect querySelect, int limit, @Nullable String cursor) {
+        return new KissenQuerySelect(querySelect, limit, cursor) {
+            @Override
+            public @NotNull CompletableFuture<Object[][]> execute() {
+                throw new UnsupportedOperationException("A page of a query cannot be executed on its own.");
+            }
+
+            @Override
+            public @NotNull CompletableFuture<QueryPage> executePage() {
+                throw new UnsupportedOperationException("A page of a query cannot be executed on its own.");
+            }
+
+            @Override
+            public @NotNull Stream<Object[]> stream() {
+                throw new UnsupportedOperationException("A page of a query cannot be executed on its own.");
+            }
+
+            @Override
+            public @NotNull Flow.Publisher<Object[]> publish() {
+                throw new UnsupportedOperationException("A page of a query cannot be executed on its own.");
+            }
+
+            @Override
+            public @NotNull CompletableFuture<Long> count() {
+                throw new UnsupportedOperationException("A page of a query cannot be executed on its own.");
+            }
+
+            @Override
+            public @NotNull CompletableFuture<Boolean> exists() {
+                throw new UnsupportedOperationException("A page of a query cannot be executed on its own.");
+            }
+        };
     }
 
     @Override
@@ -36,15 +116,125 @@ public abstract class KissenQuerySelect extends KissenQueryComponent<QuerySelect
         return columns;
     }
 
+    @Override
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    @Override
+    public @NotNull OrderQuery @NotNull [] getOrderQueries() {
+        return orderQueries.toArray(new OrderQuery[0]);
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public @Nullable String getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public @NotNull QuerySelect orderBy(@NotNull Column column, @NotNull SortDirection direction) {
+        if (distinct && column != columns[0]) {
+            throw new IllegalArgumentException(String.format("A distinct select can only be sorted by its column %s.", columns[0]));
+        }
+        orderQueries.add(new KissenOrderQuery(column, direction));
+        return this;
+    }
+
+    @Override
+    public @NotNull QuerySelect limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException(String.format("The limit cannot be negative, %s given.", limit));
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    @Override
+    public @NotNull QuerySelect offset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException(String.format("The offset cannot be negative, %s given.", offset));
+        }
+        this.offset = offset;
+        return this;
+    }
+
+    @Override
+    public @NotNull QuerySelect after(@Nullable String cursor) {
+        if (cursor != null) {
+            KissenQueryCursor.decode(cursor); // fail early on malformed tokens
+        }
+        this.cursor = cursor;
+        return this;
+    }
+
     public abstract static class KissenRootQuerySelect extends KissenRootQueryComponent<QuerySelect> implements RootQuerySelect {
 
         public KissenRootQuerySelect(@NotNull Column... columns) {
-            this.setQueryComponent(new KissenQuerySelect(columns) {
+            this(false, columns);
+        }
+
+        public KissenRootQuerySelect(boolean distinct, @NotNull Column... columns) {
+            this.setQueryComponent(new KissenQuerySelect(distinct, columns) {
                 @Override
                 public @NotNull CompletableFuture<Object[][]> execute() {
                     return KissenRootQuerySelect.this.execute();
                 }
+
+                @Override
+                public @NotNull CompletableFuture<QueryPage> executePage() {
+                    return KissenRootQuerySelect.this.executePage();
+                }
+
+                @Override
+                public @NotNull Stream<Object[]> stream() {
+                    return KissenRootQuerySelect.this.stream();
+                }
+
+                @Override
+                public @NotNull Flow.Publisher<Object[]> publish() {
+                    return KissenRootQuerySelect.this.publish();
+                }
+
+                @Override
+                public @NotNull CompletableFuture<Long> count() {
+                    return KissenRootQuerySelect.this.count();
+                }
+
+                @Override
+                public @NotNull CompletableFuture<Boolean> exists() {
+                    return KissenRootQuerySelect.this.exists();
+                }
             });
         }
+
+        @Override
+        public @NotNull QuerySelect orderBy(@NotNull Column column, @NotNull SortDirection direction) {
+            return getQuery().orderBy(column, direction);
+        }
+
+        @Override
+        public @NotNull QuerySelect limit(int limit) {
+            return getQuery().limit(limit);
+        }
+
+        @Override
+        public @NotNull QuerySelect offset(int offset) {
+            return getQuery().offset(offset);
+        }
+
+        @Override
+        public @NotNull QuerySelect after(@Nullable String cursor) {
+            return getQuery().after(cursor);
+        }
     }
 }
@@ -24,6 +24,8 @@ import lombok.Setter;
 import net.kissenpvp.core.api.database.queryapi.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 public class KissenRootQueryComponent<T extends QueryComponent<?>> implements RootQueryComponent<T>
 {
 
@@ -39,6 +41,21 @@ public class KissenRootQueryComponent<T extends QueryComponent<?>> implements Ro
         return where(column, "\\b%s\\b".formatted(value));
     }
 
+    @Override
+    public @NotNull T whereValueEquals(@NotNull Object value) {
+        return getQueryComponent().initialise(Column.VALUE, value, FilterType.EQUALS);
+    }
+
+    @Override
+    public @NotNull T whereValueContains(@NotNull Object element) {
+        return getQueryComponent().initialise(Column.VALUE, element, FilterType.CONTAINS);
+    }
+
+    @Override
+    public @NotNull T whereIn(@NotNull Column column, @NotNull Collection<String> values) {
+        return getQueryComponent().initialise(column, values, FilterType.IN);
+    }
+
     public @NotNull T getQuery() {
         return (T) queryComponent;
     }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.savable;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Array;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A storage map which keeps its entries in least recently used order and evicts the eldest entries as soon as the
+ * total weight exceeds {@link #getMaxWeight()}.
+ *
+ * <p>Evicted values are moved into a soft referenced area, so they can be recovered by {@link #get(Object)} until the
+ * garbage collector decides to reclaim them. The weight of an entry is recalculated whenever it is accessed, as the
+ * values stored in here are usually mutable collections which grow after they were inserted.
+ *
+ * <p>All operations are synchronized on the storage itself. The views returned by {@link #keySet()}, {@link #values()}
+ * and {@link #entrySet()} are backed by the strongly held entries, so removing through them, for example by
+ * {@link Collection#removeIf(java.util.function.Predicate)}, removes the entry from the storage. Like the views of
+ * {@link Collections#synchronizedMap(Map)}, they must be iterated while holding the monitor of the storage.
+ */
+public class BoundedStorage extends AbstractMap<String, Object> {
+
+    @Getter private final int maxWeight;
+    private final LinkedHashMap<String, Object> storage;
+    private final Map<String, Integer> weights;
+    private final Map<String, SoftReference<Object>> evicted;
+    @Getter private long weight;
+
+    public BoundedStorage(int maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException(String.format("The max weight must be positive, %s given.", maxWeight));
+        }
+        this.maxWeight = maxWeight;
+        this.storage = new LinkedHashMap<>(16, 0.75f, true);
+        this.weights = new HashMap<>();
+        this.evicted = new HashMap<>();
+        this.weight = 0;
+    }
+
+    /**
+     * Calculates the weight of the given value.
+     *
+     * @param value the value to weigh.
+     * @return {@code 1} plus the number of elements if the value is a collection, map or array, otherwise {@code 1}.
+     */
+    public static int weigh(@Nullable Object value) {
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + map.size();
+        }
+        if (value != null && value.getClass().isArray()) {
+            return 1 + Array.getLength(value);
+        }
+        return 1;
+    }
+
+    @Override
+    public synchronized Object get(Object key) {
+        Object value = storage.get(key);
+        if (value != null) {
+            reweigh((String) key, value);
+            return value;
+        }
+        return recover(key);
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return storage.containsKey(key) || recover(key) != null;
+    }
+
+    @Override
+    public synchronized Object put(@NotNull String key, Object value) {
+        recover(key);
+        Object previous = storage.put(key, value);
+        reweigh(key, value);
+        return previous;
+    }
+
+    @Override
+    public synchronized Object remove(Object key) {
+        SoftReference<Object> reference = evicted.remove(key);
+        Object value = storage.remove(key);
+        Integer removed = weights.remove(key);
+        if (removed != null) {
+            weight -= removed;
+        }
+        return value != null || reference == null ? value : reference.get();
+    }
+
+    @Override
+    public synchronized void clear() {
+        storage.clear();
+        weights.clear();
+        evicted.clear();
+        weight = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return storage.size();
+    }
+
+    /**
+     * Returns a view of the entries which are currently strongly held by this storage, in least recently used order.
+     *
+     * <p>Soft referenced entries which were evicted are not part of the view. Iterating the view does not count as an
+     * access, and entries removed through its iterator are removed from the storage along with their weight. The
+     * weight of a value replaced by {@link Entry#setValue(Object)} is recalculated on its next access.
+     *
+     * @return a view of the strongly referenced entries.
+     */
+    @Override
+    public @NotNull Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<String, Object>> iterator() {
+                return new StorageIterator();
+            }
+
+            @Override
+            public int size() {
+                return BoundedStorage.this.size();
+            }
+        };
+    }
+
+    private @Nullable Object recover(Object key) {
+        SoftReference<Object> reference = evicted.remove(key);
+        Object value = reference == null ? null : reference.get();
+        if (value != null) {
+            storage.put((String) key, value);
+            reweigh((String) key, value);
+        }
+        return value;
+    }
+
+    private void reweigh(@NotNull String key, @Nullable Object value) {
+        int current = weigh(value);
+        Integer previous = weights.put(key, current);
+        weight += current - (previous == null ? 0 : previous);
+        evict(key);
+    }
+
+    private void evict(@NotNull String retain) {
+        if (weight <= maxWeight) {
+            return;
+        }
+
+        evicted.values().removeIf(reference -> reference.get() == null);
+        Iterator<Entry<String, Object>> iterator = storage.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Entry<String, Object> eldest = iterator.next();
+            if (eldest.getKey().equals(retain)) {
+                continue; // the entry which has just been touched is never evicted
+            }
+
+            iterator.remove();
+            weight -= weights.remove(eldest.getKey());
+            evicted.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+        }
+    }
+
+    /**
+     * Iterates the strongly held entries and removes the weight of the entries removed through it.
+     */
+    private final class StorageIterator implements Iterator<Entry<String, Object>> {
+
+        private final Iterator<Entry<String, Object>> iterator = storage.entrySet().iterator();
+        private Entry<String, Object> current;
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public @NotNull Entry<String, Object> next() {
+            current = iterator.next();
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            Integer removed = weights.remove(current.getKey());
+            if (removed != null) {
+                weight -= removed;
+            }
+        }
+    }
+}
@@ -46,6 +46,7 @@ public abstract class KissenSavable<T> extends HashMap<KissenPlugin, SavableMap>
 
     private T id;
     @Getter(AccessLevel.PROTECTED) private SavableMap repository;
+    private volatile SessionJournal session;
 
     @Override
     public @NotNull Map<String, Object> getStorage() {
@@ -68,7 +69,9 @@ public abstract class KissenSavable<T> extends HashMap<KissenPlugin, SavableMap>
         return super.computeIfAbsent(plugin, (key) -> {
             log.debug("Fetch data for repository {} from plugin {}.", getRawID(), plugin.getName());
             Map<String, Object> fetched = meta.getData(getDatabaseID()).join();
-            return new KissenSavableMap(getDatabaseID(), meta, fetched);
+            KissenSavableMap savableMap = new KissenSavableMap(getDatabaseID(), meta, fetched);
+            prepareRepository(savableMap);
+            return savableMap;
         });
     }
 
@@ -83,6 +86,9 @@ public abstract class KissenSavable<T> extends HashMap<KissenPlugin, SavableMap>
         this.id = id;
 
         repository = createRepository(initialData);
+        if (repository instanceof KissenSavableMap internal) {
+            prepareRepository(internal);
+        }
         applyHooks();
 
         SavableMap repository = getRepository();
@@ -107,6 +113,51 @@ public abstract class KissenSavable<T> extends HashMap<KissenPlugin, SavableMap>
         return this.getSaveID() + this.getRawID();
     }
 
+    /**
+     * Starts a session for all repositories of this savable, including the ones which are created later on.
+     *
+     * <p>While the session is active, changes are collected and only written to the database when {@link #flush()}
+     * or {@link #endSession()} is called.
+     *
+     * @param journal the journal to record the pending changes in.
+     * @see KissenSavableMap#beginSession(SessionJournal)
+     */
+    public void beginSession(@NotNull SessionJournal journal) {
+        this.session = journal;
+        getRepositories().forEach(savableMap -> savableMap.beginSession(journal));
+    }
+
+    /**
+     * Writes the pending changes of all repositories of this savable to the database.
+     *
+     * @see KissenSavableMap#flush()
+     */
+    public void flush() {
+        getRepositories().forEach(KissenSavableMap::flush);
+    }
+
+    /**
+     * Writes the pending changes of all repositories to the database and ends the session.
+     *
+     * @see KissenSavableMap#endSession()
+     */
+    public void endSession() {
+        this.session = null;
+        getRepositories().forEach(KissenSavableMap::endSession);
+    }
+
+    private @NotNull Stream<KissenSavableMap> getRepositories() {
+        return Stream.concat(Stream.of(repository), values().stream()).filter(KissenSavableMap.class::isInstance).map(KissenSavableMap.class::cast);
+    }
+
+    private void prepareRepository(@NotNull KissenSavableMap savableMap) {
+        KissenCore.getInstance().getImplementation(KissenStorageImplementation.class).getSessionJournal().recover(savableMap);
+        SessionJournal journal = this.session;
+        if (journal != null) {
+            savableMap.beginSession(journal);
+        }
+    }
+
     protected abstract @NotNull SavableMap createRepository(@Nullable Map<String, Object> data);
 
     protected void applyHooks() {}
@@ -18,6 +18,7 @@
 
 package net.kissenpvp.core.database.savable;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -30,6 +31,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.function.BiConsumer;
 
@@ -69,6 +71,8 @@ public class KissenSavableMap extends HashMap<String, Object> implements Savable
     private final String id;
     private final Meta meta;
     private final Map<String, BiConsumer<String, Object>> hooks;
+    @Getter(AccessLevel.NONE) private final Map<String, Object> dirty;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private volatile SessionJournal session;
 
     /**
      * Constructs a new KissenSavableMap with the specified ID and ObjectMeta.
@@ -84,6 +88,91 @@ public class KissenSavableMap extends HashMap<String, Object> implements Savable
         this.id = id;
         this.meta = meta;
         this.hooks = new HashMap<>();
+        this.dirty = new LinkedHashMap<>();
+    }
+
+    /**
+     * Starts a session for this map.
+     *
+     * <p>While a session is active, changes made through {@link #set(String, Object)} and
+     * {@link #setList(String, Collection)} are not written to the database immediately. Instead, the keys are marked as
+     * dirty and written in one batch when {@link #flush()} is called. Every change is recorded in the given journal
+     * beforehand, so it can be recovered if the server stops before the session is flushed.
+     *
+     * @param journal the journal to record the changes in.
+     * @see #endSession()
+     */
+    public void beginSession(@NotNull SessionJournal journal) {
+        this.session = journal;
+    }
+
+    /**
+     * Writes all dirty keys to the database and ends the session, following changes are written through again.
+     *
+     * <p>The keys are flushed while the session is still set, so they are removed from the journal. The dirty lock is
+     * held meanwhile, so no change can be recorded between the flush and the end of the session.
+     *
+     * @see #beginSession(SessionJournal)
+     */
+    public void endSession() {
+        synchronized (dirty) {
+            flush();
+            this.session = null;
+        }
+    }
+
+    /**
+     * Writes all keys which have been changed since the last flush to the database.
+     *
+     * <p>Keys which are written successfully are removed from the journal. If a key is changed again while it is
+     * written, it stays dirty and is written on the next flush. Its journal entry then holds the newer value and is
+     * kept, which is why changes are recorded and marked as dirty under the same lock that is held while completing.
+     */
+    public void flush() {
+        Map<String, Object> pending;
+        synchronized (dirty) {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            pending = new LinkedHashMap<>(dirty);
+            dirty.clear();
+        }
+
+        pending.forEach((key, value) -> {
+            getMeta().setObject(getId(), key, value);
+            SessionJournal journal = this.session;
+            if (journal == null) {
+                return;
+            }
+
+            synchronized (dirty) {
+                if (dirty.containsKey(key)) {
+                    return; // the journal holds a newer value which has not been written yet
+                }
+
+                try {
+                    journal.complete(this, key);
+                } catch (IOException ioException) {
+                    log.error("Failed to remove key {} of repository {} from the session journal.", key, getId(), ioException);
+                }
+            }
+        });
+        log.debug("Flushed {} changed key(s) of repository {}.", pending.size(), getId());
+    }
+
+    /**
+     * Applies a change which has been recovered from the {@link SessionJournal} to this map and the database.
+     *
+     * @param key   the key of the change.
+     * @param value the recovered value, or {@code null} if the key has been deleted.
+     */
+    void recover(@NotNull String key, @Nullable Object value) {
+        if (Objects.isNull(value)) {
+            super.remove(key);
+        } else {
+            super.put(key, value);
+        }
+        getMeta().setObject(getId(), key, value);
     }
 
     public void applyHook(@NotNull String key, @NotNull BiConsumer<String, Object> hook) {
@@ -109,14 +198,14 @@ public class KissenSavableMap extends HashMap<String, Object> implements Savable
         if (Objects.isNull(value)) {
             returnValue = remove(key);
             if (Objects.nonNull(returnValue)) {
-                getMeta().delete(getId(), key);
+                write(key, null);
             }
             return returnValue;
         }
 
         returnValue = put(key, value);
         if (!Objects.equals(returnValue, value)) {
-            getMeta().setObject(getId(), key, value);
+            write(key, value);
         }
         return returnValue;
     }
@@ -195,7 +284,7 @@ public class KissenSavableMap extends HashMap<String, Object> implements Savable
     @Override
     public <T> @Nullable Object setList(@NotNull String key, @Nullable Collection<T> value) {
         Object list = putList(key, value);
-        getMeta().setCollection(getId(), key, value);
+        write(key, value);
         return list;
     }
 
@@ -249,6 +338,33 @@ public class KissenSavableMap extends HashMap<String, Object> implements Savable
         return Objects.hash(super.hashCode(), getId());
     }
 
+    /**
+     * Writes the given value to the database, or marks the key as dirty if a session is active.
+     *
+     * <p>If the change could not be recorded in the session journal, it is written through immediately.</p>
+     *
+     * @param key   the key to write.
+     * @param value the value to write, or {@code null} to delete the key.
+     * @see #beginSession(SessionJournal)
+     */
+    private void write(@NotNull String key, @Nullable Object value) {
+        SessionJournal journal = this.session;
+        if (Objects.nonNull(journal)) {
+            synchronized (dirty) {
+                if (this.session == journal) { // the session may have ended while waiting for the lock
+                    try {
+                        journal.record(this, key, value);
+                        dirty.put(key, value);
+                        return;
+                    } catch (IOException ioException) {
+                        log.error("Failed to record key {} of repository {} in the session journal.", key, getId(), ioException);
+                    }
+                }
+            }
+        }
+        getMeta().setObject(getId(), key, value);
+    }
+
     /**
      * Retrieves a {@link MetaList} associated with the specified key from this map.
      *
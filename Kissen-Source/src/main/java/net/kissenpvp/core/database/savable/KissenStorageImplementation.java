@@ -18,9 +18,14 @@
 
 package net.kissenpvp.core.database.savable;
 
+import lombok.Getter;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import net.kissenpvp.core.api.config.ConfigurationImplementation;
 import net.kissenpvp.core.api.database.StorageImplementation;
+import net.kissenpvp.core.base.KissenCore;
 import net.kissenpvp.core.database.file.KissenObjectFile;
+import net.kissenpvp.core.database.settings.StorageMaxWeight;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,22 +36,34 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
+@Slf4j(topic = "Kissen")
 public class KissenStorageImplementation implements StorageImplementation
 {
 
-    private final Set<StorageContainer> userStorageContainer;
+    private final Map<String, StorageContainer> userStorageContainer;
     private final KissenObjectFile kissenObjectFile;
+    @Getter private final SessionJournal sessionJournal;
 
-    @SneakyThrows public KissenStorageImplementation()
+    public KissenStorageImplementation()
     {
-        this.userStorageContainer = new HashSet<>();
-        kissenObjectFile = new KissenObjectFile(new File(".objcache"));
+        this(new File("."));
+    }
+
+    /**
+     * Creates the storage implementation keeping its object cache and session journal in the given directory.
+     *
+     * @param directory the directory of the {@code .objcache} and {@code .sessionjournal} files.
+     */
+    @SneakyThrows public KissenStorageImplementation(@NotNull File directory)
+    {
+        this.userStorageContainer = new ConcurrentHashMap<>();
+        kissenObjectFile = new KissenObjectFile(new File(directory, ".objcache"));
+        sessionJournal = new SessionJournal(new File(directory, ".sessionjournal"));
     }
 
     @Override public @NotNull Map<String, Object> getStorage(@NotNull String id)
@@ -56,67 +73,92 @@ public class KissenStorageImplementation implements StorageImplementation
 
     @Override public @NotNull Map<String, Object> getStorage(@NotNull String id, @Nullable Duration duration)
     {
-        userStorageContainer.removeIf(storageContainer -> !storageContainer.valid());
-        Optional<StorageContainer> stringObjectMap =
-                userStorageContainer.stream().filter(container -> container.id().equals(
-                id)).findFirst();
+        if (duration == null)
+        {
+            return computeStorage(id, null, null);
+        }
+        return getStorage(id, duration, getDefaultMaxWeight());
+    }
+
+    @Override public @NotNull Map<String, Object> getStorage(@NotNull String id, @Nullable Duration duration, int maxWeight)
+    {
+        return computeStorage(id, duration, maxWeight);
+    }
+
+    @Override public void dropStorage(@NotNull String id)
+    {
+        userStorageContainer.remove(id);
+    }
 
-        return stringObjectMap.map(StorageContainer::storage).orElseGet(() ->
+    private @NotNull Map<String, Object> computeStorage(@NotNull String id, @Nullable Duration duration, @Nullable Integer maxWeight)
+    {
+        userStorageContainer.values().removeIf(storageContainer -> !storageContainer.valid());
+        return userStorageContainer.computeIfAbsent(id, key ->
         {
             Instant end = Optional.ofNullable(duration).map(current -> Instant.now().plus(current)).orElse(null);
-            StorageContainer storageContainer = new StorageContainer(id, new HashMap<>(), end);
-            userStorageContainer.add(storageContainer);
-            return storageContainer.storage();
-        });
+            Map<String, Object> storage = maxWeight == null ? new HashMap<>() : new BoundedStorage(maxWeight);
+            return new StorageContainer(key, storage, end);
+        }).storage();
     }
 
-    @Override public void dropStorage(@NotNull String id)
+    private int getDefaultMaxWeight()
     {
-        userStorageContainer.removeIf(storageContainer -> storageContainer.id().equals(id));
+        return KissenCore.getInstance().getImplementation(ConfigurationImplementation.class).getSetting(StorageMaxWeight.class);
+    }
+
+    @Override public void stop()
+    {
+        try
+        {
+            kissenObjectFile.close();
+            sessionJournal.close();
+        }
+        catch (IOException ioException)
+        {
+            log.error("Failed to close the object cache files.", ioException);
+        }
     }
 
     @Override public boolean containsCacheObject(@NotNull String key)
     {
-        return kissenObjectFile.getStringSerializableMap().containsKey(key);
+        return kissenObjectFile.contains(key);
     }
 
-    @Override public synchronized boolean deleteCacheObject(@NotNull String key) throws IOException
+    @Override public boolean deleteCacheObject(@NotNull String key) throws IOException
     {
-        boolean contains = kissenObjectFile.getStringSerializableMap().containsKey(key);
-        writeCacheObject(key, null);
-        return contains == kissenObjectFile.getStringSerializableMap().containsKey(key);
+        return kissenObjectFile.delete(key);
     }
 
-    @Override public synchronized <T extends Serializable> void writeCacheObject(@NotNull String key,
-                                                                                 @Nullable T serializable) throws IllegalArgumentException, IOException
+    @Override public <T extends Serializable> void writeCacheObject(@NotNull String key,
+                                                                    @Nullable T serializable) throws IllegalArgumentException, IOException
     {
+        if (serializable == null)
+        {
+            kissenObjectFile.delete(key);
+            return;
+        }
+
         try
         {
-            kissenObjectFile.getStringSerializableMap().remove(key);
-            if (serializable != null)
-            {
-                kissenObjectFile.getStringSerializableMap().put(key, serializable);
-            }
-            kissenObjectFile.write();
+            kissenObjectFile.put(key, serializable);
         }
         catch (NotSerializableException notSerializableException)
         {
-            if (serializable != null)
-            {
-                throw new IllegalArgumentException(serializable.getClass().getName() + " is not serializable.",
-                        notSerializableException);
-            }
+            throw new IllegalArgumentException(serializable.getClass().getName() + " is not serializable.",
+                    notSerializableException);
         }
     }
 
-    @Override public synchronized <T extends Serializable> @NotNull T readCacheObject(@NotNull String key,
-                                                                                      @NotNull Class<T> clazz) throws ClassCastException, NullPointerException
+    @SneakyThrows({IOException.class, ClassNotFoundException.class})
+    @Override public <T extends Serializable> @NotNull T readCacheObject(@NotNull String key,
+                                                                         @NotNull Class<T> clazz) throws ClassCastException, NullPointerException
     {
-        if (!kissenObjectFile.getStringSerializableMap().containsKey(key))
+        Serializable serializable = kissenObjectFile.get(key);
+        if (serializable == null)
         {
             throw new NullPointerException("The requested cache object with the key " + key + " did not exits.");
         }
-        return (T) kissenObjectFile.getStringSerializableMap().get(key);
+        return clazz.cast(serializable);
     }
 
     /**
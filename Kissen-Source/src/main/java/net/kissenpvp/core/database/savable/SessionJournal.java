@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.savable;
+
+import lombok.extern.slf4j.Slf4j;
+import net.kissenpvp.core.database.KissenBaseMeta;
+import net.kissenpvp.core.database.file.KissenObjectFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A local journal holding the changes of {@link KissenSavableMap} instances which are in a session and have not been
+ * written to the database yet.
+ *
+ * <p>Every change is appended to the journal before it is collected by the map, and removed once it has been written to
+ * the database. Entries which are still present when a repository is created again, usually because the server
+ * crashed before the session was flushed, are written to the database by {@link #recover(KissenSavableMap)}.
+ *
+ * <p>The entries are indexed by the repository they belong to, so recovering a repository only looks at its own
+ * entries instead of the whole journal.
+ *
+ * @see KissenSavableMap#beginSession(SessionJournal)
+ */
+@Slf4j(topic = "Kissen")
+public class SessionJournal implements Closeable {
+
+    private static final String SEPARATOR = "\0";
+
+    private final KissenObjectFile journal;
+    private final Map<String, Set<String>> repositories;
+
+    public SessionJournal(@NotNull File file) throws IOException, ClassNotFoundException {
+        this.journal = new KissenObjectFile(file);
+        this.repositories = new ConcurrentHashMap<>();
+        journal.keys().forEach(this::index);
+    }
+
+    /**
+     * Records the change of the given key.
+     *
+     * @param map   the repository the key belongs to.
+     * @param key   the key that has been changed.
+     * @param value the new value, or {@code null} if the key has been deleted.
+     * @throws IOException if the change could not be appended to the journal.
+     */
+    public void record(@NotNull KissenSavableMap map, @NotNull String key, @Nullable Object value) throws IOException {
+        String[] serialized = getMeta(map).serialize(value);
+        String entry = getKey(map, key);
+        journal.put(entry, Objects.requireNonNullElseGet(serialized, () -> new String[0]));
+        index(entry);
+    }
+
+    /**
+     * Removes the change of the given key from the journal, after it has been written to the database.
+     *
+     * @param map the repository the key belongs to.
+     * @param key the key that has been written.
+     * @throws IOException if the removal could not be appended to the journal.
+     */
+    public void complete(@NotNull KissenSavableMap map, @NotNull String key) throws IOException {
+        delete(getKey(map, key));
+    }
+
+    /**
+     * Writes all changes of the given repository which are left in the journal to the database and applies them to the
+     * repository itself.
+     *
+     * @param map the repository to recover.
+     */
+    public void recover(@NotNull KissenSavableMap map) {
+        String prefix = getKey(map, "");
+        Set<String> entries = repositories.get(prefix);
+        if (entries == null) {
+            return;
+        }
+
+        for (String entry : List.copyOf(entries)) {
+            String key = entry.substring(prefix.length());
+            try {
+                String[] serialized = (String[]) Objects.requireNonNull(journal.get(entry));
+                Object value = serialized.length == 0 ? null : getMeta(map).deserialize(serialized[0], serialized[1]);
+                map.recover(key, value);
+                delete(entry);
+                log.info("Recovered unsaved change of key {} in repository {}.", key, map.getId());
+            } catch (IOException | ClassNotFoundException | RuntimeException exception) {
+                log.error("Failed to recover unsaved change of key {} in repository {}.", key, map.getId(), exception);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    /**
+     * Returns the number of entries left in the journal.
+     *
+     * @return the number of changes which have not been written to the database yet.
+     */
+    public int size() {
+        return journal.keys().size();
+    }
+
+    private void index(@NotNull String entry) {
+        String prefix = entry.substring(0, entry.lastIndexOf(SEPARATOR) + 1);
+        repositories.compute(prefix, (ignored, entries) -> {
+            Set<String> indexed = entries == null ? ConcurrentHashMap.newKeySet() : entries;
+            indexed.add(entry);
+            return indexed;
+        });
+    }
+
+    private void delete(@NotNull String entry) throws IOException {
+        journal.delete(entry);
+        String prefix = entry.substring(0, entry.lastIndexOf(SEPARATOR) + 1);
+        repositories.computeIfPresent(prefix, (ignored, entries) -> {
+            entries.remove(entry);
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+    private static @NotNull String getKey(@NotNull KissenSavableMap map, @NotNull String key) {
+        KissenBaseMeta meta = getMeta(map);
+        String plugin = meta.getPlugin() == null ? "" : meta.getPlugin().getName();
+        return String.join(SEPARATOR, meta.getTable().getTable(), plugin, map.getId(), key);
+    }
+
+    private static @NotNull KissenBaseMeta getMeta(@NotNull KissenSavableMap map) {
+        return (KissenBaseMeta) map.getMeta();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package net.kissenpvp.core.database.settings;
+
+import net.kissenpvp.core.api.config.options.OptionBoolean;
+import org.jetbrains.annotations.NotNull;
+
+public class SessionPersistence extends OptionBoolean {
+    @Override
+    public @NotNull String getGroup() {
+        return "database";
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "When enabled, changes to the data of online users are collected and written to the database in one batch on a fixed interval, when the user leaves and when the server stops. Pending changes are kept in a local journal in case the server crashes.";
+    }
+
+    @Override
+    public @NotNull Boolean getDefault() {
+        return false;
+    }
+}
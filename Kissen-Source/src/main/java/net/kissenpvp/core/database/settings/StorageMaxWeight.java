@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.settings;
+
+import net.kissenpvp.core.api.config.options.OptionInteger;
+import org.jetbrains.annotations.NotNull;
+
+public class StorageMaxWeight extends OptionInteger {
+    @Override
+    public @NotNull String getGroup() {
+        return "database";
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "The maximum weight a temporary storage, like the punishment cache, may hold in memory before the least recently used entries are evicted. Collections weigh one plus their amount of elements.";
+    }
+
+    @Override
+    public @NotNull Integer getDefault() {
+        return 10_000;
+    }
+}
@@ -40,6 +40,7 @@ import net.kissenpvp.core.api.user.rank.event.AbstractRankGrantEvent;
 import net.kissenpvp.core.base.KissenCore;
 import net.kissenpvp.core.user.KissenPublicUser;
 import net.kissenpvp.core.user.KissenUser;
+import net.kissenpvp.core.user.KissenUserImplementation;
 import net.kissenpvp.core.user.rank.KissenPlayerRank;
 import net.kissenpvp.core.user.rank.PlayerRankNode;
 import net.kissenpvp.core.user.rank.event.InternalAsyncRankExpireEvent;
@@ -180,6 +181,13 @@ public abstract class KissenPlayerClient<P extends AbstractPlayerRank<?>, B exte
      */
     private @NotNull PlayerRankNode setRankNode(@NotNull PlayerRankNode rankNode) {
         ((KissenPublicUser<?>) getUser()).getRankNodes().replaceOrInsert(rankNode);
+
+        UserImplementation userImplementation = KissenCore.getInstance().getImplementation(UserImplementation.class);
+        userImplementation.getOnlineUser(getUniqueId()).ifPresent(user -> {
+            if (((KissenUserImplementation) userImplementation).indexRank(user)) {
+                ((KissenUser<?>) user).permissionUpdate();
+            }
+        });
         return rankNode;
     }
 
@@ -1,5 +1,6 @@
 package net.kissenpvp.core.permission;
 
+import lombok.extern.slf4j.Slf4j;
 import net.kissenpvp.core.api.base.Implementation;
 import net.kissenpvp.core.api.database.connection.DatabaseImplementation;
 import net.kissenpvp.core.api.database.meta.Meta;
@@ -11,11 +12,20 @@ import net.kissenpvp.core.database.KissenTable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
+@Slf4j(topic = "Kissen")
 public abstract class InternalKissenPermissionImplementation<T extends AbstractPermission> implements Implementation {
 
+    private final PermissionDependencyGraph dependencyGraph = new PermissionDependencyGraph();
+    private final PermissionMembershipIndex membershipIndex = new PermissionMembershipIndex();
+    private final PermissionExpiryScheduler expiryScheduler = new PermissionExpiryScheduler(this::runExpiry);
+    private final LongAdder snapshotBuilds = new LongAdder();
+    private final LongAdder snapshotBuildNanos = new LongAdder();
+    private final LongAdder snapshotPermissions = new LongAdder();
     private KissenTable publicTable;
 
     @Override
@@ -32,6 +42,112 @@ public abstract class InternalKissenPermissionImplementation<T extends AbstractP
         return getTable().setupMeta(null);
     }
 
+    /**
+     * Returns the graph propagating permission changes from groups to their members.
+     *
+     * @return the dependency graph of the permission entries.
+     */
+    public @NotNull PermissionDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
+    /**
+     * Stops the expiry scheduler and logs the totals of the {@linkplain #recordSnapshot(PermissionSnapshot) recorded}
+     * snapshot metrics.
+     */
+    @Override
+    public void stop() {
+        expiryScheduler.shutdown();
+        log.info("Created {} permission snapshots holding {} permissions in {}ms.", getSnapshotBuilds(), getSnapshotPermissions(), getSnapshotBuildTime().toMillis());
+        Implementation.super.stop();
+    }
+
+    /**
+     * Returns the scheduler updating the permissions of an entry once one of its temporary permissions expires.
+     *
+     * @return the expiry scheduler of the temporary permissions.
+     */
+    public @NotNull PermissionExpiryScheduler getExpiryScheduler() {
+        return expiryScheduler;
+    }
+
+    /**
+     * Runs the update of an entry whose temporary permission has expired.
+     *
+     * <p>The update runs right away on the thread of the expiry scheduler by default. Platforms override this to run it
+     * on their main thread instead.
+     *
+     * @param update the update of the expired entry.
+     * @see PermissionExpiryScheduler
+     */
+    protected void runExpiry(@NotNull Runnable update) {
+        update.run();
+    }
+
+    /**
+     * Returns the index resolving the groups a member belongs to.
+     *
+     * @return the reverse membership index of the permission groups.
+     */
+    public @NotNull PermissionMembershipIndex getMembershipIndex() {
+        return membershipIndex;
+    }
+
+    /**
+     * Runs the given permission edits and updates the effective permissions of every affected entry once afterward.
+     *
+     * @param edits the edits to run.
+     * @see PermissionDependencyGraph#batch(Runnable)
+     */
+    public void batchPermissionUpdates(@NotNull Runnable edits) {
+        dependencyGraph.batch(edits);
+    }
+
+    /**
+     * Records the metrics of a newly created permission snapshot.
+     *
+     * <p>Each snapshot is logged on debug level, while the totals are logged when this implementation stops and can be
+     * read through the getters below at any time.
+     *
+     * @param snapshot the snapshot which has been created.
+     * @see #getSnapshotBuilds()
+     * @see #getSnapshotBuildTime()
+     * @see #getSnapshotPermissions()
+     */
+    public void recordSnapshot(@NotNull PermissionSnapshot<?> snapshot) {
+        snapshotBuilds.increment();
+        snapshotBuildNanos.add(snapshot.getBuildTime().toNanos());
+        snapshotPermissions.add(snapshot.size());
+        log.debug("Created a permission snapshot holding {} permissions in {}µs.", snapshot.size(), snapshot.getBuildTime().toNanos() / 1000);
+    }
+
+    /**
+     * Returns the number of permission snapshots created since the server started.
+     *
+     * @return the number of created snapshots.
+     */
+    public long getSnapshotBuilds() {
+        return snapshotBuilds.sum();
+    }
+
+    /**
+     * Returns the total time spent creating permission snapshots since the server started.
+     *
+     * @return the accumulated build time of all snapshots.
+     */
+    public @NotNull Duration getSnapshotBuildTime() {
+        return Duration.ofNanos(snapshotBuildNanos.sum());
+    }
+
+    /**
+     * Returns the total number of permissions stored in the created permission snapshots since the server started.
+     *
+     * @return the accumulated size of all snapshots.
+     */
+    public long getSnapshotPermissions() {
+        return snapshotPermissions.sum();
+    }
+
     public abstract void addPermission(@NotNull String permission);
 
     @NotNull
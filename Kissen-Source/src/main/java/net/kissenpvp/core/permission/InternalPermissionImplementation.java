@@ -41,6 +41,10 @@ public interface InternalPermissionImplementation<T extends AbstractPermission>
 
     @NotNull @Unmodifiable Set<AbstractPermissionGroup<T>> getInternalGroups();
 
+    default @NotNull Optional<AbstractPermissionGroup<T>> getInternalGroup(@NotNull String name) {
+        return getInternalGroups().stream().filter(group -> group.getPermissionID().equals(name)).findFirst();
+    }
+
     void removePermissionGroup(@NotNull String name);
 
 }
@@ -34,14 +34,8 @@ import java.util.stream.Stream;
 @Getter
 public abstract class KissenGroupablePermissionEntry<T, X extends AbstractPermission> extends KissenPermissionEntry<T, X> implements AbstractGroupablePermissionEntry<X>
 {
-    private volatile Set<X> cache;
     private volatile List<String> groupCache;
 
-    public KissenGroupablePermissionEntry()
-    {
-        this.cache = null;
-    }
-
     @Override
     protected void applyHooks() {
         getRepository().applyHook("permission_group_list", (s, object) -> permissionUpdate());
@@ -70,8 +64,8 @@ public abstract class KissenGroupablePermissionEntry<T, X extends AbstractPermis
     @Override
     public void permissionUpdate()
     {
-        cache = null;
         groupCache = null;
+        super.permissionUpdate();
     }
 
     @Override
@@ -83,8 +77,9 @@ public abstract class KissenGroupablePermissionEntry<T, X extends AbstractPermis
     public @NotNull List<AbstractPermissionGroup<X>> getOwnPermissionGroups()
     {
         InternalPermissionImplementation<X> permission = KissenCore.getInstance().getImplementation(InternalPermissionImplementation.class);
-        Stream<AbstractPermissionGroup<X>> groupStream = permission.getInternalGroups().stream();
-        return groupStream.filter(group -> group.getOwnMember().contains(getPermissionID())).toList();
+        PermissionMembershipIndex index = KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class).getMembershipIndex();
+        Stream<String> groupStream = index.getGroups(getPermissionID()).stream();
+        return groupStream.map(permission::getInternalGroup).flatMap(Optional::stream).toList();
     }
 
     @Override
@@ -97,14 +92,15 @@ public abstract class KissenGroupablePermissionEntry<T, X extends AbstractPermis
     }
 
     @Override
-    public synchronized @NotNull @Unmodifiable Set<X> getPermissionList() {
-        if (cache == null)
-        {
-            Set<X> permissions = new KissenPermissionSet<>(getOwnPermissions());
-            getOwnPermissionGroups().stream().map(AbstractPermissionGroup::getPermissionList).forEach(permissions::addAll);
-            cache = permissions;
-        }
-        return Collections.unmodifiableSet(cache);
+    public @NotNull @Unmodifiable Set<X> getPermissionList() {
+        return getPermissionSnapshot().getPermissions();
+    }
+
+    @Override
+    protected @NotNull Collection<X> collectPermissions() {
+        Set<X> permissions = new KissenPermissionSet<>(getOwnPermissions());
+        getOwnPermissionGroups().stream().map(AbstractPermissionGroup::getPermissionList).forEach(permissions::addAll);
+        return permissions;
     }
 
     @Override
@@ -19,23 +19,32 @@
 package net.kissenpvp.core.permission;
 
 import net.kissenpvp.core.api.database.DataWriter;
+import net.kissenpvp.core.api.database.savable.SavableMap;
 import net.kissenpvp.core.api.event.EventCancelledException;
 import net.kissenpvp.core.api.permission.AbstractPermission;
 import net.kissenpvp.core.api.permission.AbstractPermissionEntry;
+import net.kissenpvp.core.api.permission.PermissionTransaction;
 import net.kissenpvp.core.api.time.TemporalData;
+import net.kissenpvp.core.base.KissenCore;
 import net.kissenpvp.core.database.savable.KissenSavable;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.time.Instant;
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class KissenPermissionEntry<T, X extends AbstractPermission> extends KissenSavable<T> implements AbstractPermissionEntry<X> {
+
+    private volatile PermissionSnapshot<X> permissionSnapshot;
+    private ScheduledFuture<?> permissionExpiry;
+
     @Override
     public @NotNull String getPermissionID() {
         return getRawID().toString();
@@ -82,6 +91,35 @@ public abstract class KissenPermissionEntry<T, X extends AbstractPermission> ext
         }).orElse(0);
     }
 
+    /**
+     * Applies multiple permission changes to this entry at once.
+     *
+     * <p>The changes are collected by a {@link KissenPermissionTransaction} and the resulting permission list is written
+     * once afterward, within {@link InternalKissenPermissionImplementation#batchPermissionUpdates(Runnable)}. This way,
+     * the effective permissions of this entry and its members are only updated once, regardless of the number of
+     * changes. If the transaction throws an exception, nothing is written.
+     *
+     * <p>The transaction works on a copy of the nodes taken before the consumer runs, and the whole list is written
+     * afterward. A change made to this entry in the meantime, such as a concurrent {@link #setPermission(String)}, is
+     * therefore overwritten.
+     *
+     * @param transaction the consumer applying the changes.
+     */
+    @Override
+    public void edit(@NotNull Consumer<PermissionTransaction<X>> transaction) {
+        SavableMap repository = getRepository();
+        List<PermissionNode> nodes = repository.containsList("permission_list") ? repository.getListNotNull("permission_list", PermissionNode.class) : List.of();
+
+        KissenPermissionTransaction<X> permissionTransaction = new KissenPermissionTransaction<>(this, nodes);
+        transaction.accept(permissionTransaction);
+        if (!permissionTransaction.isChanged()) {
+            return;
+        }
+
+        InternalKissenPermissionImplementation<?> implementation = KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class);
+        implementation.batchPermissionUpdates(() -> repository.setList("permission_list", permissionTransaction.getNodes()));
+    }
+
     @Override
     public @NotNull @Unmodifiable Set<X> getPermissionList() {
         Stream<PermissionNode> permissionNodes = getRepository().getListNotNull("permission_list", PermissionNode.class).stream();
@@ -102,14 +140,15 @@ public abstract class KissenPermissionEntry<T, X extends AbstractPermission> ext
 
     @Override
     public boolean hasPermission(@NotNull String permission) {
-        return getInternalPermission(permission).orElse(false);
+        X resolved = getPermissionSnapshot().resolve(permission);
+        return resolved != null && resolved.getValue();
     }
 
     /**
      * Retrieves the boolean value indicating whether the specified user has the internal permission.
      * <p>
-     * This method uses a matching function and comparator to find the relevant internal permissions,
-     * sorts them by name, and returns the value of the latest matching permission. The returned value
+     * This method resolves the permission using the {@link PermissionSnapshot} of the effective permissions
+     * and returns the value of the matching permission with the greatest name. The returned value
      * is useful for checking whether a user has a particular permission.
      *
      * @param permission the name of the permission to check. Must not be null.
@@ -119,15 +158,118 @@ public abstract class KissenPermissionEntry<T, X extends AbstractPermission> ext
      * @see #setPermission(AbstractPermission, boolean)
      */
     public @NotNull Optional<Boolean> getInternalPermission(@NotNull String permission) {
+        return Optional.ofNullable(getPermissionSnapshot().resolve(permission)).map(AbstractPermission::getValue);
+    }
 
-        Function<X, Stream<X>> matching = internalPermission -> matcher(permission, internalPermission).stream();
-        Comparator<X> sortByName = (o1, o2) -> CharSequence.compare(o1.getName(), o2.getName());
-        List<X> permissions = getPermissionList().stream().flatMap(matching).sorted(sortByName).toList();
+    /**
+     * Returns the immutable snapshot of the effective permissions of this entry.
+     *
+     * <p>The snapshot is read without any lock, which makes permission checks safe from any thread. If no snapshot
+     * exists, because the permissions have changed since it was created last and it is not
+     * {@linkplain #isPermissionPrecomputed() precomputed}, it is created before it is returned.
+     *
+     * @return the snapshot of the effective permissions.
+     * @see #permissionUpdate()
+     */
+    public @NotNull PermissionSnapshot<X> getPermissionSnapshot() {
+        PermissionSnapshot<X> snapshot = permissionSnapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                if ((snapshot = permissionSnapshot) == null) {
+                    snapshot = permissionSnapshot = createPermissionSnapshot();
+                }
+            }
+        }
+        return snapshot;
+    }
 
-        if (permissions.isEmpty()) {
-            return Optional.empty();
+    /**
+     * Marks the permissions of this entry as changed.
+     *
+     * <p>The change is propagated through the {@link PermissionDependencyGraph}, which updates the snapshot of this
+     * entry and of every entry inheriting from it, either immediately or when the running batch is complete.
+     */
+    @Override
+    public void permissionUpdate() {
+        KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class).getDependencyGraph().invalidate(this);
+    }
+
+    /**
+     * Replaces the snapshot of the effective permissions, as they have changed.
+     *
+     * <p>If the snapshot is {@linkplain #isPermissionPrecomputed() precomputed}, a new snapshot is created right away
+     * and swapped in, so the next check does not have to wait for it. Otherwise, the snapshot is discarded and created
+     * again on the next check.
+     */
+    protected synchronized void updatePermissionSnapshot() {
+        if (isPermissionPrecomputed()) {
+            permissionSnapshot = createPermissionSnapshot();
+            return;
         }
-        return Optional.of(permissions.getLast().getValue());
+
+        permissionSnapshot = null;
+        scheduleExpiry(null);
+    }
+
+    /**
+     * Called once the snapshot of this entry has been updated, because the permissions of this entry or of an entry it
+     * inherits from have changed.
+     *
+     * <p>The {@link PermissionDependencyGraph} calls this for every affected entry after all of their snapshots have
+     * been updated, so entries holding state derived from their permissions can discard it. Does nothing by default.
+     */
+    protected void permissionsInvalidated() {
+    }
+
+    /**
+     * Returns the entries whose effective permissions depend on the permissions of this entry.
+     *
+     * @return the entries inheriting from this entry, which are none by default.
+     * @see PermissionDependencyGraph
+     */
+    protected @NotNull Collection<? extends KissenPermissionEntry<?, ?>> getDependentEntries() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns whether the snapshot of the effective permissions is created as soon as they change, instead of on the
+     * next check.
+     *
+     * @return {@code true} if the snapshot should be precomputed, which is {@code false} by default.
+     */
+    protected boolean isPermissionPrecomputed() {
+        return false;
+    }
+
+    /**
+     * Collects the effective permissions of this entry, which are stored in its {@link PermissionSnapshot}.
+     *
+     * @return the effective permissions, which are the permissions of this entry by default.
+     */
+    protected @NotNull Collection<X> collectPermissions() {
+        return getPermissionList();
+    }
+
+    private @NotNull PermissionSnapshot<X> createPermissionSnapshot() {
+        PermissionSnapshot<X> snapshot = PermissionSnapshot.collect(this::collectPermissions);
+        InternalKissenPermissionImplementation<?> implementation = KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class);
+        implementation.recordSnapshot(snapshot);
+
+        scheduleExpiry(snapshot.getNextExpiry());
+        return snapshot;
+    }
+
+    /**
+     * Replaces the pending expiry of the previous snapshot, as it is obsolete once the snapshot has been replaced.
+     *
+     * @param expiry the instant the next permission of the current snapshot expires, or {@code null} if none does.
+     */
+    private void scheduleExpiry(@Nullable Instant expiry) {
+        if (permissionExpiry != null) {
+            permissionExpiry.cancel(false);
+        }
+        PermissionExpiryScheduler scheduler = KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class).getExpiryScheduler();
+        permissionExpiry = expiry == null ? null : scheduler.schedule(this, expiry);
     }
 
     /**
@@ -185,37 +327,7 @@ public abstract class KissenPermissionEntry<T, X extends AbstractPermission> ext
      * @throws NullPointerException if either the permission or internalPermission parameter is null.
      */
     public @NotNull Optional<X> matcher(@NotNull String permission, @NotNull X internalPermission) {
-        int testedIndex = 0, givenIndex = 0, testedWildcardIndex = -1, givenWildcardIndex = -1;
-
-        while (givenIndex < permission.length()) {
-            if (testedIndex < internalPermission.getName().length() && internalPermission.getName().charAt(testedIndex)=='*') {
-                testedWildcardIndex = testedIndex;
-                givenWildcardIndex = givenIndex;
-                testedIndex++;
-                continue;
-            }
-
-            if (testedIndex < internalPermission.getName().length() && (internalPermission.getName().charAt(testedIndex)==permission.charAt(givenIndex) || internalPermission.getName().charAt(testedIndex)=='?')) {
-                testedIndex++;
-                givenIndex++;
-                continue;
-            }
-
-            if (testedWildcardIndex!=-1) {
-                testedIndex = testedWildcardIndex + 1;
-                givenIndex = givenWildcardIndex + 1;
-                givenWildcardIndex++;
-                continue;
-            }
-
-            return Optional.empty();
-        }
-
-        while (testedIndex < internalPermission.getName().length() && internalPermission.getName().charAt(testedIndex)=='*') {
-            testedIndex++;
-        }
-
-        return testedIndex==internalPermission.getName().length() && givenIndex==permission.length() ? Optional.of(internalPermission):Optional.empty();
+        return PermissionTrie.matches(internalPermission.getName(), permission, 0) ? Optional.of(internalPermission) : Optional.empty();
     }
 
     /**
@@ -35,8 +35,6 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class KissenPermissionGroup<T extends AbstractPermission> extends KissenGroupablePermissionEntry<String, T> implements AbstractPermissionGroup<T> {
@@ -55,17 +53,28 @@ public abstract class KissenPermissionGroup<T extends AbstractPermission> extend
 
     @Override
     public @NotNull @Unmodifiable Set<String> getOwnMember() {
-        UserImplementation userImplementation = KissenCore.getInstance().getImplementation(UserImplementation.class);
         Set<String> member = new HashSet<>(getRepository().getListNotNull("group_member", String.class));
+        member.addAll(getMembershipIndex().getRankMembers(getPermissionID())); // users with rank called like this group
+        return Set.copyOf(member);
+    }
 
-        // add users with rank called like this group to members
-        Predicate<User> matches = user -> user.getPlayerClient().getRank().getSource().getName().equals(getPermissionID());
-        Function<User, String> transform = user -> ((AbstractPermissionEntry<T>) user).getPermissionID();
-        Stream<User> userStream = userImplementation.getOnlineUser().stream();
-
-        member.addAll(userStream.filter(matches).map(transform).collect(Collectors.toUnmodifiableSet()));
+    @Override
+    protected void applyHooks() {
+        SavableMap repository = getRepository();
+        List<String> member = repository.containsList("group_member") ? repository.getListNotNull("group_member", String.class) : List.of();
+        getMembershipIndex().indexGroup(this, member);
+
+        repository.applyHook("group_member", (key, value) -> {
+            Collection<?> current = value instanceof Collection<?> collection ? collection : List.of();
+            getMembershipIndex().indexGroup(this, current.stream().map(String::valueOf).toList());
+        });
+        super.applyHooks();
+    }
 
-        return Set.copyOf(member);
+    @Override
+    public int softDelete() {
+        getMembershipIndex().removeGroup(this);
+        return super.softDelete();
     }
 
     @Override
@@ -115,7 +124,7 @@ public abstract class KissenPermissionGroup<T extends AbstractPermission> extend
         Set<UUID> uuids = new HashSet<>();
         InternalPermissionImplementation<?> permissionImplementation = KissenCore.getInstance().getImplementation(InternalPermissionImplementation.class);
         for (String member : getMember()) {
-            if (member.matches("[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}")) {
+            if (isUserID(member)) {
                 uuids.add(UUID.fromString(member));
                 continue;
             }
@@ -130,30 +139,70 @@ public abstract class KissenPermissionGroup<T extends AbstractPermission> extend
         return memberTransform().apply(getOwnMember());
     }
 
+    /**
+     * The members of a group inherit its permissions, which makes them depend on the group.
+     *
+     * @return the members of this group which are loaded, meaning online users and groups.
+     */
+    @Override
+    protected @NotNull Collection<? extends KissenPermissionEntry<?, ?>> getDependentEntries() {
+        Stream<AbstractGroupablePermissionEntry<T>> entries = getConnectedEntries().stream();
+        return entries.filter(KissenPermissionEntry.class::isInstance).map(entry -> (KissenPermissionEntry<?, ?>) entry).toList();
+    }
+
     @Contract(pure = true, value = "-> new")
     private @NotNull Function<Set<String>, Set<AbstractGroupablePermissionEntry<T>>> memberTransform() {
         InternalPermissionImplementation<T> permissionImplementation = KissenCore.getInstance().getImplementation(InternalPermissionImplementation.class);
         UserImplementation userImplementation = KissenCore.getInstance().getImplementation(UserImplementation.class);
         return (memberList) -> {
+            Map<String, AbstractPermissionGroup<T>> groups = new HashMap<>();
+            permissionImplementation.getInternalGroups().forEach(group -> groups.putIfAbsent(group.getPermissionID(), group));
+
             Set<AbstractGroupablePermissionEntry<T>> entries = new HashSet<>();
             for (String member : memberList) {
-                if (member.matches("[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}")) {
+                if (isUserID(member)) {
                     Consumer<User> add = user -> entries.add((AbstractGroupablePermissionEntry<T>) user);
                     userImplementation.getOnlineUser(UUID.fromString(member)).ifPresent(add);
                     continue;
                 }
 
-                Consumer<AbstractPermissionGroup<?>> add = group -> entries.add((AbstractPermissionGroup<T>) group);
-                permissionImplementation.getInternalGroups().stream().filter(group -> group.getPermissionID().equals(member)).findFirst().ifPresent(add);
+                Optional.ofNullable(groups.get(member)).ifPresent(entries::add);
             }
             return entries;
         };
     }
 
+    /**
+     * Returns whether the given member id is the UUID of a user rather than the name of a group.
+     *
+     * <p>This only checks the format of a UUID, as a regular expression would be compiled on every call.
+     *
+     * @param member the member id to check.
+     * @return {@code true} if the member id is formatted like a UUID.
+     */
+    private static boolean isUserID(@NotNull String member) {
+        if (member.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < member.length(); i++) {
+            char character = member.charAt(i);
+            boolean hex = (character >= '0' && character <= '9') || (character >= 'a' && character <= 'f') || (character >= 'A' && character <= 'F');
+            boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? character == '-' : hex;
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @NotNull PermissionMembershipIndex getMembershipIndex() {
+        return KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class).getMembershipIndex();
+    }
+
     @Override
     protected @NotNull SavableMap createRepository(@Nullable Map<String, Object> data) {
         Meta meta = KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class).getMeta();
-        return new KissenSavableMap(getDatabaseID(), meta, Objects.requireNonNullElseGet(data, meta.getData(getDatabaseID())::join));
+        return new KissenSavableMap(getDatabaseID(), meta, Objects.requireNonNullElseGet(data, () -> meta.getData(getDatabaseID()).join()));
     }
 
     @Override
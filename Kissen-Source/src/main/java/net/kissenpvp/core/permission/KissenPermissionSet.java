@@ -3,53 +3,89 @@ package net.kissenpvp.core.permission;
 import net.kissenpvp.core.api.permission.AbstractPermission;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.AbstractSet;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-public class KissenPermissionSet<T extends AbstractPermission> extends HashSet<T>
+/**
+ * A set of permissions which contains at most one permission per name.
+ *
+ * <p>The permissions are stored by their name, so adding a permission whose name is already present is rejected in
+ * constant time. The permission added first takes precedence, and the set iterates in insertion order.
+ */
+public class KissenPermissionSet<T extends AbstractPermission> extends AbstractSet<T>
 {
 
+    private final Map<String, T> permissions;
+
     public KissenPermissionSet()
     {
-        super();
+        this.permissions = new LinkedHashMap<>();
     }
 
     public KissenPermissionSet(@NotNull Collection<? extends T> c)
     {
-        super(c);
+        this.permissions = new LinkedHashMap<>(Math.max((int) (c.size() / .75f) + 1, 16));
+        addAll(c);
     }
 
     public KissenPermissionSet(int initialCapacity, float loadFactor)
     {
-        super(initialCapacity, loadFactor);
+        this.permissions = new LinkedHashMap<>(initialCapacity, loadFactor);
     }
 
     public KissenPermissionSet(int initialCapacity)
     {
-        super(initialCapacity);
+        this.permissions = new LinkedHashMap<>(initialCapacity);
     }
 
     @Override
     public boolean add(T t)
     {
-        if(containPredicate().test(t))
+        return permissions.putIfAbsent(t.getName(), t) == null;
+    }
+
+    @Override
+    public boolean addAll(@NotNull Collection<? extends T> c)
+    {
+        boolean changed = false;
+        for (T permission : c)
         {
-            return super.add(t);
+            changed |= add(permission);
         }
-        return false;
+        return changed;
     }
 
     @Override
-    public boolean addAll(@NotNull Collection<? extends T> c)
+    public boolean contains(Object o)
+    {
+        return o instanceof AbstractPermission permission && Objects.equals(permissions.get(permission.getName()), o);
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        return o instanceof AbstractPermission permission && permissions.remove(permission.getName(), o);
+    }
+
+    @Override
+    public void clear()
     {
-        return super.addAll(c.stream().filter(containPredicate()).collect(Collectors.toSet()));
+        permissions.clear();
     }
 
-    private @NotNull Predicate<T> containPredicate()
+    @Override
+    public @NotNull Iterator<T> iterator()
+    {
+        return permissions.values().iterator();
+    }
+
+    @Override
+    public int size()
     {
-        return current -> stream().noneMatch(eq -> Objects.equals(current.getName(), eq.getName()));
+        return permissions.size();
     }
 }
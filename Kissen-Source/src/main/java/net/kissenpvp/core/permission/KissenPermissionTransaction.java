@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.permission.AbstractPermission;
+import net.kissenpvp.core.api.permission.AbstractPermissionEntry;
+import net.kissenpvp.core.api.permission.PermissionTransaction;
+import net.kissenpvp.core.api.time.TemporalData;
+import net.kissenpvp.core.api.util.Container;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PermissionTransaction} collecting the changes to the permission nodes of an entry in memory.
+ *
+ * <p>The nodes are copied when the transaction is created and keyed by their name, so every change runs in constant
+ * time. Nodes are never modified in place, as they are shared with the repository until the transaction is written.
+ *
+ * @param <X> the type of the permissions of the entry
+ * @see KissenPermissionEntry#edit(java.util.function.Consumer)
+ */
+public class KissenPermissionTransaction<X extends AbstractPermission> implements PermissionTransaction<X> {
+
+    private final AbstractPermissionEntry<X> owner;
+    private final Map<String, PermissionNode> nodes;
+    private boolean changed;
+
+    public KissenPermissionTransaction(@NotNull AbstractPermissionEntry<X> owner, @NotNull Collection<PermissionNode> nodes) {
+        this.owner = owner;
+        this.nodes = new LinkedHashMap<>();
+        nodes.forEach(node -> this.nodes.put(node.name(), node));
+    }
+
+    @Override
+    public void setPermission(@NotNull String permission, boolean value) {
+        PermissionNode current = nodes.get(permission);
+        if (current == null) {
+            nodes.put(permission, new PermissionNode(permission, owner, value, new TemporalData()));
+            changed = true;
+            return;
+        }
+
+        if (current.value().getValue() != value) {
+            nodes.put(permission, new PermissionNode(current.name(), current.owner(), new Container<>(value), current.additionalData(), current.temporalData()));
+            changed = true;
+        }
+    }
+
+    @Override
+    public boolean unsetPermission(@NotNull String permission) {
+        boolean removed = nodes.remove(permission) != null;
+        changed |= removed;
+        return removed;
+    }
+
+    @Override
+    public int wipePermissions() {
+        int count = nodes.size();
+        nodes.clear();
+        changed |= count > 0;
+        return count;
+    }
+
+    /**
+     * Returns whether this transaction changed any permission.
+     *
+     * @return {@code true} if the nodes have to be written.
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * Returns the permission nodes after all changes of this transaction have been applied.
+     *
+     * @return the nodes in the order they have been set.
+     */
+    public @NotNull @Unmodifiable List<PermissionNode> getNodes() {
+        return List.copyOf(nodes.values());
+    }
+}
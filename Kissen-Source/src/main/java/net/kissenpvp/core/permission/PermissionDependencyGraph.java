@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Propagates changes of permissions through the graph formed by permission groups and their members.
+ *
+ * <p>The effective permissions of an entry depend on the permissions of the groups it is a member of, which in turn
+ * depend on their own groups. When the permissions of an entry change, this graph is walked from the entry to its
+ * members, so exactly the entries which inherit from it update their {@link PermissionSnapshot}, each of them once.
+ * Afterward, each of them is {@linkplain KissenPermissionEntry#permissionsInvalidated() notified} of the change.
+ *
+ * <p>Changes can be {@linkplain #batch(Runnable) batched}, in which case the affected entries are only collected and
+ * updated once the batch is complete. This way, importing many permissions into a group updates its members once,
+ * instead of once per permission.
+ *
+ * @see KissenPermissionEntry#permissionUpdate()
+ */
+public class PermissionDependencyGraph {
+
+    private final ThreadLocal<Set<KissenPermissionEntry<?, ?>>> batch = new ThreadLocal<>();
+
+    /**
+     * Marks the permissions of the given entry as changed.
+     *
+     * <p>If a batch is running on the current thread, the entry is updated when the batch is complete. Otherwise, the
+     * entry and all entries inheriting from it are updated immediately.
+     *
+     * @param entry the entry whose permissions have changed.
+     */
+    public void invalidate(@NotNull KissenPermissionEntry<?, ?> entry) {
+        Set<KissenPermissionEntry<?, ?>> pending = batch.get();
+        if (pending != null) {
+            pending.add(entry);
+            return;
+        }
+        update(Set.of(entry));
+    }
+
+    /**
+     * Runs the given edits and updates every entry affected by them once afterward.
+     *
+     * <p>Batches running on the same thread are merged into the outermost one. The affected entries are updated even if
+     * the edits fail, as some of them may have been applied already.
+     *
+     * @param edits the edits to run.
+     */
+    public void batch(@NotNull Runnable edits) {
+        if (batch.get() != null) {
+            edits.run(); // the outermost batch updates the entries
+            return;
+        }
+
+        Set<KissenPermissionEntry<?, ?>> pending = new LinkedHashSet<>();
+        batch.set(pending);
+        try {
+            edits.run();
+        } finally {
+            batch.remove();
+            update(pending);
+        }
+    }
+
+    /**
+     * Collects the given entries and all entries inheriting from them, in the order they are reached.
+     *
+     * @param roots the entries whose permissions have changed.
+     * @return the affected entries, each of them once.
+     */
+    public @NotNull Set<KissenPermissionEntry<?, ?>> collectAffected(@NotNull Collection<KissenPermissionEntry<?, ?>> roots) {
+        Set<KissenPermissionEntry<?, ?>> affected = new LinkedHashSet<>();
+        Deque<KissenPermissionEntry<?, ?>> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            KissenPermissionEntry<?, ?> entry = queue.poll();
+            if (affected.add(entry)) {
+                queue.addAll(entry.getDependentEntries());
+            }
+        }
+        return affected;
+    }
+
+    private void update(@NotNull Collection<KissenPermissionEntry<?, ?>> roots) {
+        if (roots.isEmpty()) {
+            return;
+        }
+
+        // entries which are not precomputed discard their snapshot first, so precomputed entries collect the new ones
+        Comparator<KissenPermissionEntry<?, ?>> order = Comparator.comparing(KissenPermissionEntry::isPermissionPrecomputed);
+        List<KissenPermissionEntry<?, ?>> affected = collectAffected(roots).stream().sorted(order).toList();
+        affected.forEach(KissenPermissionEntry::updatePermissionSnapshot);
+        affected.forEach(KissenPermissionEntry::permissionsInvalidated);
+    }
+}
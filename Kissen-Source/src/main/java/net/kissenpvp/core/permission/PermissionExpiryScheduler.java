@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the expiry of temporary permissions.
+ *
+ * <p>When a {@link PermissionSnapshot} is created, expired permissions are left out and the earliest end of the
+ * remaining ones is registered here. Once this instant has passed, the permissions of the entry are marked as changed,
+ * which creates a new snapshot without the expired permission for the entry and every entry inheriting from it.
+ * Permission checks therefore never have to compare the current time.
+ *
+ * <p>The thread of this scheduler only waits for the expiry. The update itself is handed to the dispatcher given on
+ * construction, so platforms can run it on their main thread, like any other change of permissions.
+ *
+ * <p>Each entry keeps at most one pending expiry, which is cancelled whenever a new snapshot is created. Entries are
+ * only referenced weakly, so scheduling an expiry does not keep an entry loaded.
+ */
+@Slf4j(topic = "Kissen")
+public class PermissionExpiryScheduler {
+
+    private final ScheduledExecutorService executor;
+    private final Executor dispatcher;
+
+    /**
+     * Creates a scheduler which hands the updates of expired entries to the given dispatcher.
+     *
+     * @param dispatcher the executor running the updates, such as the main thread of the platform.
+     */
+    public PermissionExpiryScheduler(@NotNull Executor dispatcher) {
+        this.dispatcher = dispatcher;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Kissen-Permission-Expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the permissions of the given entry to be updated right after the given instant.
+     *
+     * @param entry  the entry whose permission expires.
+     * @param expiry the instant the permission expires.
+     * @return the pending expiry, which has to be cancelled once the snapshot it belongs to has been replaced, or
+     * {@code null} if the scheduler has been shut down.
+     */
+    public @Nullable ScheduledFuture<?> schedule(@NotNull KissenPermissionEntry<?, ?> entry, @NotNull Instant expiry) {
+        WeakReference<KissenPermissionEntry<?, ?>> reference = new WeakReference<>(entry);
+        return schedule(() -> expire(reference), expiry);
+    }
+
+    /**
+     * Schedules the given task to be handed to the dispatcher right after the given instant.
+     *
+     * <p>This is meant for anything else which expires and affects permissions, such as the rank of a user.
+     *
+     * @param task   the task to run once the instant has passed.
+     * @param expiry the instant something expires.
+     * @return the pending task, or {@code null} if the scheduler has been shut down.
+     */
+    public @Nullable ScheduledFuture<?> schedule(@NotNull Runnable task, @NotNull Instant expiry) {
+        long delay = Math.max(Duration.between(Instant.now(), expiry).toMillis(), 0) + 1; // the end itself is still valid
+        try {
+            return executor.schedule(() -> dispatcher.execute(task), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException rejectedExecutionException) {
+            return null;
+        }
+    }
+
+    /**
+     * Cancels all pending expiries and stops the scheduler.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void expire(@NotNull WeakReference<KissenPermissionEntry<?, ?>> reference) {
+        KissenPermissionEntry<?, ?> entry = reference.get();
+        if (entry == null) {
+            return;
+        }
+
+        try {
+            entry.permissionUpdate();
+        } catch (Exception exception) {
+            log.error("Failed to update the permissions of entry {} after a permission expired.", entry.getPermissionID(), exception);
+        }
+    }
+}
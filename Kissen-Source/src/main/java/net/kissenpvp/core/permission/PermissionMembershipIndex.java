@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+
+/**
+ * A reverse index from member ids to the names of the permission groups they belong to.
+ *
+ * <p>Members are either stored explicitly in the member list of a group or are online users whose current rank is
+ * called like the group. Both kinds of membership are kept up to date by the groups and the user implementation, so
+ * looking up the groups of a member no longer requires scanning every group and every online user.
+ *
+ * <p>Groups are tracked by identity, as multiple group instances with the same name may exist (for example one per
+ * context). A member belongs to a group name as long as any of these instances lists it.
+ */
+public class PermissionMembershipIndex {
+
+    private final Map<KissenPermissionGroup<?>, Set<String>> groupMembers = new IdentityHashMap<>();
+    private final Map<String, Map<String, Integer>> memberGroups = new HashMap<>();
+    private final Map<String, String> userRanks = new HashMap<>();
+    private final Map<String, Set<String>> rankMembers = new HashMap<>();
+
+    /**
+     * Replaces the explicit members indexed for the given group.
+     *
+     * @param group   the group whose member list changed.
+     * @param members the current member list of the group.
+     */
+    public synchronized void indexGroup(@NotNull KissenPermissionGroup<?> group, @NotNull Collection<String> members) {
+        Set<String> previous = groupMembers.put(group, new HashSet<>(members));
+        String name = group.getPermissionID();
+        if (previous != null) {
+            previous.stream().filter(member -> !members.contains(member)).forEach(member -> unlink(member, name));
+        }
+        members.stream().distinct().filter(member -> previous == null || !previous.contains(member)).forEach(member -> link(member, name));
+    }
+
+    /**
+     * Removes all explicit members of the given group from the index.
+     *
+     * @param group the group which has been deleted.
+     */
+    public synchronized void removeGroup(@NotNull KissenPermissionGroup<?> group) {
+        Set<String> previous = groupMembers.remove(group);
+        if (previous != null) {
+            previous.forEach(member -> unlink(member, group.getPermissionID()));
+        }
+    }
+
+    /**
+     * Updates the rank an online user is indexed with.
+     *
+     * @param member the permission id of the user.
+     * @param rank   the name of the current rank of the user, or {@code null} if the user went offline.
+     * @return {@code true} if the indexed rank changed.
+     */
+    public synchronized boolean indexRank(@NotNull String member, @Nullable String rank) {
+        String previous = rank == null ? userRanks.remove(member) : userRanks.put(member, rank);
+        if (Objects.equals(previous, rank)) {
+            return false;
+        }
+
+        if (previous != null) {
+            Set<String> members = rankMembers.get(previous);
+            members.remove(member);
+            if (members.isEmpty()) {
+                rankMembers.remove(previous);
+            }
+        }
+        if (rank != null) {
+            rankMembers.computeIfAbsent(rank, key -> new HashSet<>()).add(member);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the names of the groups the given member belongs to, either explicitly or by its rank.
+     *
+     * @param member the member id, which is the uuid of a user or the name of a group.
+     * @return the names of the groups the member belongs to.
+     */
+    public synchronized @NotNull @Unmodifiable Set<String> getGroups(@NotNull String member) {
+        Set<String> groups = new HashSet<>(memberGroups.getOrDefault(member, Map.of()).keySet());
+        Optional.ofNullable(userRanks.get(member)).ifPresent(groups::add);
+        return Collections.unmodifiableSet(groups);
+    }
+
+    /**
+     * Returns the ids of the online users whose current rank is called like the given group.
+     *
+     * @param group the name of the group.
+     * @return the permission ids of the users.
+     */
+    public synchronized @NotNull @Unmodifiable Set<String> getRankMembers(@NotNull String group) {
+        return Set.copyOf(rankMembers.getOrDefault(group, Set.of()));
+    }
+
+    private void link(@NotNull String member, @NotNull String group) {
+        memberGroups.computeIfAbsent(member, key -> new HashMap<>()).merge(group, 1, Integer::sum);
+    }
+
+    private void unlink(@NotNull String member, @NotNull String group) {
+        Map<String, Integer> groups = memberGroups.get(member);
+        if (groups == null) {
+            return;
+        }
+        groups.computeIfPresent(group, (key, count) -> count > 1 ? count - 1 : null);
+        if (groups.isEmpty()) {
+            memberGroups.remove(member);
+        }
+    }
+}
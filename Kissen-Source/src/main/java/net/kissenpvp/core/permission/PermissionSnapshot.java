@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import lombok.Getter;
+import net.kissenpvp.core.api.permission.AbstractPermission;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * An immutable snapshot of the effective permissions of an entry, together with the {@link PermissionTrie} compiled
+ * from them.
+ *
+ * <p>A snapshot is never modified after it has been created. When the permissions of an entry change, a new snapshot
+ * is created and replaces the previous one as a whole, so readers on any thread either see the old or the new
+ * permissions, but never a mixture of both, and do not need any lock.
+ *
+ * <p>Permissions which have already expired are left out. The earliest end of the remaining ones is stored as the
+ * {@linkplain #getNextExpiry() next expiry}, after which the snapshot has to be replaced.
+ *
+ * <p>The time it took to create the snapshot and its size are recorded, so they can be exposed as metrics.
+ *
+ * @param <X> the type of the permissions
+ * @see KissenPermissionEntry#getPermissionSnapshot()
+ */
+@Getter
+public final class PermissionSnapshot<X extends AbstractPermission> {
+
+    private final @Unmodifiable Set<X> permissions;
+    private final PermissionTrie<X> trie;
+    private final Duration buildTime;
+    private final @Nullable Instant nextExpiry;
+
+    private PermissionSnapshot(@NotNull Collection<X> permissions, long start) {
+        Instant now = Instant.now();
+        Set<X> valid = new LinkedHashSet<>();
+        Instant expiry = null;
+        for (X permission : permissions) {
+            Instant end = permission.getEnd().orElse(null);
+            if (end == null) {
+                valid.add(permission);
+            } else if (end.isAfter(now)) {
+                valid.add(permission);
+                expiry = expiry == null || end.isBefore(expiry) ? end : expiry;
+            }
+        }
+
+        this.permissions = Collections.unmodifiableSet(valid);
+        this.trie = new PermissionTrie<>(this.permissions);
+        this.nextExpiry = expiry;
+        this.buildTime = Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Collects the effective permissions and creates a snapshot of them, measuring the time both steps took.
+     *
+     * @param collector the supplier collecting the effective permissions, whose result is copied.
+     * @param <X>       the type of the permissions.
+     * @return the created snapshot.
+     */
+    public static <X extends AbstractPermission> @NotNull PermissionSnapshot<X> collect(@NotNull Supplier<? extends Collection<X>> collector) {
+        long start = System.nanoTime();
+        return new PermissionSnapshot<>(collector.get(), start);
+    }
+
+    /**
+     * Resolves the permission which decides about the given permission.
+     *
+     * @param permission the permission to check.
+     * @return the matching permission with the greatest name, or {@code null} if no permission matches.
+     * @see PermissionTrie#resolve(String)
+     */
+    public @Nullable X resolve(@NotNull String permission) {
+        return trie.resolve(permission);
+    }
+
+    /**
+     * Returns the number of permissions in this snapshot.
+     *
+     * @return the number of effective permissions.
+     */
+    public int size() {
+        return permissions.size();
+    }
+}
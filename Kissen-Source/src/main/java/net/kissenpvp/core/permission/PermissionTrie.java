@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.permission.AbstractPermission;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable trie compiled from the permissions of an entry, which resolves permission checks without iterating
+ * over all permissions.
+ *
+ * <p>Each permission is split into its dot separated segments. The segments in front of the first segment containing
+ * a wildcard are stored as nodes of the trie, while the remaining pattern is stored at the node of the last literal
+ * segment. A check therefore only walks down the segments of the checked permission and matches the patterns stored at
+ * the nodes it passes, which requires neither sorting nor allocations.
+ *
+ * <p>The result equals the one of applying {@link KissenPermissionEntry#matcher(String, AbstractPermission)} to every
+ * permission: the matching permission with the lexicographically greatest name takes precedence. This order is
+ * computed once when the trie is compiled and stored as the rank of each permission.
+ *
+ * @param <X> the type of the permissions
+ * @see KissenPermissionEntry#getInternalPermission(String)
+ */
+public final class PermissionTrie<X extends AbstractPermission> {
+
+    private final Node<X> root;
+
+    /**
+     * Compiles the given permissions into a trie.
+     *
+     * @param permissions the permissions to compile.
+     */
+    public PermissionTrie(@NotNull Collection<X> permissions) {
+        List<X> sorted = permissions.stream().sorted(Comparator.comparing(AbstractPermission::getName)).toList();
+
+        Builder<X> root = new Builder<>();
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            X permission = sorted.get(rank);
+            String name = permission.getName();
+
+            Builder<X> node = root;
+            int offset = 0;
+            while (true) {
+                int end = name.indexOf('.', offset);
+                String segment = name.substring(offset, end == -1 ? name.length() : end);
+                if (isPattern(segment)) {
+                    node.patterns.add(new Entry<>(name.substring(offset), rank, permission));
+                    break;
+                }
+
+                node = node.children.computeIfAbsent(segment, key -> new Builder<>());
+                if (end == -1) {
+                    node.exact = new Entry<>(segment, rank, permission);
+                    break;
+                }
+                offset = end + 1;
+            }
+        }
+        this.root = root.build();
+    }
+
+    /**
+     * Resolves the permission which decides about the given permission.
+     *
+     * @param permission the permission to check.
+     * @return the matching permission with the greatest name, or {@code null} if no permission matches.
+     */
+    public @Nullable X resolve(@NotNull String permission) {
+        Node<X> node = root;
+        Entry<X> best = null;
+        int offset = 0;
+        while (true) {
+            best = node.match(permission, offset, best);
+
+            int end = permission.indexOf('.', offset);
+            Node<X> child = node.child(permission, offset, end == -1 ? permission.length() : end);
+            if (child == null) {
+                break;
+            }
+            if (end == -1) {
+                best = precedes(child.exact(), best) ? child.exact() : best;
+                break;
+            }
+
+            node = child;
+            offset = end + 1;
+        }
+        return best == null ? null : best.permission();
+    }
+
+    /**
+     * Matches the given permission from {@code offset} against the pattern, where {@code '*'} matches any sequence of
+     * characters and {@code '?'} matches a single character.
+     *
+     * @param pattern    the pattern to match.
+     * @param permission the permission to check.
+     * @param offset     the index of the permission the pattern is matched from.
+     * @return {@code true} if the remaining permission matches the pattern.
+     * @see KissenPermissionEntry#matcher(String, AbstractPermission)
+     */
+    static boolean matches(@NotNull String pattern, @NotNull String permission, int offset) {
+        int testedIndex = 0, givenIndex = offset, testedWildcardIndex = -1, givenWildcardIndex = -1;
+
+        while (givenIndex < permission.length()) {
+            if (testedIndex < pattern.length() && pattern.charAt(testedIndex) == '*') {
+                testedWildcardIndex = testedIndex;
+                givenWildcardIndex = givenIndex;
+                testedIndex++;
+                continue;
+            }
+
+            if (testedIndex < pattern.length() && (pattern.charAt(testedIndex) == permission.charAt(givenIndex) || pattern.charAt(testedIndex) == '?')) {
+                testedIndex++;
+                givenIndex++;
+                continue;
+            }
+
+            if (testedWildcardIndex != -1) {
+                testedIndex = testedWildcardIndex + 1;
+                givenIndex = givenWildcardIndex + 1;
+                givenWildcardIndex++;
+                continue;
+            }
+
+            return false;
+        }
+
+        while (testedIndex < pattern.length() && pattern.charAt(testedIndex) == '*') {
+            testedIndex++;
+        }
+        return testedIndex == pattern.length();
+    }
+
+    private static boolean isPattern(@NotNull String segment) {
+        return segment.indexOf('*') != -1 || segment.indexOf('?') != -1;
+    }
+
+    private static boolean precedes(@Nullable Entry<?> entry, @Nullable Entry<?> best) {
+        return entry != null && (best == null || entry.rank() > best.rank());
+    }
+
+    /**
+     * A permission stored in the trie.
+     *
+     * @param pattern    the pattern matched against the remaining permission, or the last segment of a literal permission.
+     * @param rank       the position of the permission when all permissions are sorted by their name.
+     * @param permission the permission itself.
+     */
+    private record Entry<X>(@NotNull String pattern, int rank, @NotNull X permission) {}
+
+    /**
+     * An immutable node of the trie.
+     *
+     * @param segments the sorted segments of the children.
+     * @param children the children, at the same index as their segment.
+     * @param exact    the literal permission ending at this node, if any.
+     * @param patterns the patterns stored at this node, sorted by their rank in descending order.
+     */
+    private record Node<X>(@NotNull String[] segments, @NotNull List<Node<X>> children, @Nullable Entry<X> exact, @NotNull List<Entry<X>> patterns) {
+
+        private @Nullable Entry<X> match(@NotNull String permission, int offset, @Nullable Entry<X> best) {
+            for (int i = 0; i < patterns.size(); i++) {
+                Entry<X> entry = patterns.get(i);
+                if (!precedes(entry, best)) {
+                    return best; // all following patterns have a lower rank
+                }
+                if (matches(entry.pattern(), permission, offset)) {
+                    return entry;
+                }
+            }
+            return best;
+        }
+
+        private @Nullable Node<X> child(@NotNull String permission, int from, int to) {
+            int low = 0, high = segments.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(segments[middle], permission, from, to);
+                if (comparison == 0) {
+                    return children.get(middle);
+                }
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return null;
+        }
+
+        private static int compare(@NotNull String segment, @NotNull String permission, int from, int to) {
+            int length = Math.min(segment.length(), to - from);
+            for (int i = 0; i < length; i++) {
+                int difference = segment.charAt(i) - permission.charAt(from + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return segment.length() - (to - from);
+        }
+    }
+
+    private static final class Builder<X> {
+
+        private final Map<String, Builder<X>> children = new TreeMap<>();
+        private final List<Entry<X>> patterns = new ArrayList<>();
+        private Entry<X> exact;
+
+        private @NotNull Node<X> build() {
+            List<Node<X>> nodes = children.values().stream().map(Builder::build).toList();
+            List<Entry<X>> sorted = patterns.stream().sorted(Comparator.comparingInt(Entry<X>::rank).reversed()).toList();
+            return new Node<>(children.keySet().toArray(String[]::new), nodes, exact, sorted);
+        }
+    }
+}
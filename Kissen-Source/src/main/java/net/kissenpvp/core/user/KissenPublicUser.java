@@ -61,7 +61,7 @@ public abstract class KissenPublicUser<T extends AbstractPermission> extends Kis
 
     public @NotNull @Unmodifiable Set<UUID> getAltAccounts() {
         Meta meta = ((KissenSavableMap) getRepository()).getMeta();
-        QuerySelect query = meta.select(Column.TOTAL_ID).where(Column.VALUE, getTotalId()).andExact(Column.KEY, "total_id");
+        QuerySelect query = meta.selectDistinct(Column.TOTAL_ID).whereValueEquals(getTotalId()).andExact(Column.KEY, "total_id");
         return query.execute().thenApply(data -> Arrays.stream(data).map(columns -> {
             String uuid = String.valueOf(columns[0]).substring(getSaveID().length());
             return UUID.fromString(uuid);
@@ -67,9 +67,11 @@ public abstract class KissenUser<T extends AbstractPermission> extends KissenGro
         return Collections.singleton(this);
     }
 
+    /**
+     * Forwards the change to the player client, which updates whatever it derives from the permissions of this user.
+     */
     @Override
-    public void permissionUpdate() {
-        clearCache();
+    protected void permissionsInvalidated() {
         ((AbstractGroupablePermissionEntry<T>) getPlayerClient()).permissionUpdate();
     }
 
@@ -77,6 +79,18 @@ public abstract class KissenUser<T extends AbstractPermission> extends KissenGro
         super.permissionUpdate();
     }
 
+    /**
+     * Online users check their permissions frequently, so their permission snapshot is created as soon as their
+     * permissions change.
+     *
+     * @return {@code true} if this user is online.
+     */
+    @Override
+    protected boolean isPermissionPrecomputed() {
+        UserImplementation userImplementation = KissenCore.getInstance().getImplementation(UserImplementation.class);
+        return userImplementation.getOnlineUser(getRawID()).isPresent();
+    }
+
     protected @NotNull @Unmodifiable Map<String, Object> getDefaultData(UUID uuid, String name) {
         return Collections.unmodifiableMap(new HashMap<>());
     }
@@ -22,6 +22,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.kissenpvp.core.api.base.plugin.KissenPlugin;
+import net.kissenpvp.core.api.config.ConfigurationImplementation;
+import net.kissenpvp.core.api.database.StorageImplementation;
 import net.kissenpvp.core.api.database.connection.DatabaseImplementation;
 import net.kissenpvp.core.api.database.meta.BackendException;
 import net.kissenpvp.core.api.database.meta.Meta;
@@ -34,17 +36,28 @@ import net.kissenpvp.core.api.user.UserImplementation;
 import net.kissenpvp.core.api.user.UserInfo;
 import net.kissenpvp.core.api.user.playersettting.AbstractPlayerSetting;
 import net.kissenpvp.core.api.user.playersettting.RegisteredPlayerSetting;
+import net.kissenpvp.core.api.user.rank.AbstractPlayerRank;
 import net.kissenpvp.core.base.KissenCore;
 import net.kissenpvp.core.command.confirmation.KissenConfirmationImplementation;
 import net.kissenpvp.core.database.KissenTable;
+import net.kissenpvp.core.database.savable.KissenStorageImplementation;
+import net.kissenpvp.core.database.settings.SessionFlushInterval;
+import net.kissenpvp.core.database.settings.SessionPersistence;
+import net.kissenpvp.core.permission.InternalKissenPermissionImplementation;
 import net.kissenpvp.core.permission.InternalPermissionImplementation;
+import net.kissenpvp.core.permission.PermissionExpiryScheduler;
+import net.kissenpvp.core.permission.PermissionMembershipIndex;
 import net.kissenpvp.core.user.playersetting.KissenRegisteredPlayerSetting;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -62,16 +75,17 @@ import java.util.stream.Collectors;
 public abstract class KissenUserImplementation implements UserImplementation {
 
     @Getter
-    private final static Set<User> onlineUserSet;
+    private final static OnlineUserIndex onlineUsers;
 
     static {
-        onlineUserSet = new HashSet<>(); // persist when reloading
+        onlineUsers = new OnlineUserIndex(); // persist when reloading
     }
 
     @Getter(AccessLevel.PROTECTED)
     private final Set<UserInfoNode> cachedProfiles;
     private final Set<KissenRegisteredPlayerSetting<?, ?>> pluginSettings;
     private final ScheduledExecutorService tickExecutor;
+    private final Map<UUID, ScheduledFuture<?>> rankExpiries;
     @Getter
     private KissenTable Table;
 
@@ -79,9 +93,9 @@ public abstract class KissenUserImplementation implements UserImplementation {
      * Initializes the KissenUserImplementation instance.
      * <p>
      * This is a no-arguments constructor that constructs a new KissenUserImplementation object. When a new KissenUserImplementation object is created,
-     * it initializes the 'onlineUserSet', 'cachedProfiles', and 'userPlayerSettings' as new instances of a HashSet.
+     * it initializes the 'cachedProfiles' and 'userPlayerSettings' as new instances of a HashSet.
      * <p>
-     * The 'onlineUserSet' set is used to keep track of all users who are currently online.
+     * The users who are currently online are kept in a static {@link OnlineUserIndex}, which persists when reloading.
      * The 'cachedProfiles' set maintains a cache of user profiles, likely to avoid repetitive and costly database operations.
      * The 'userPlayerSettings' is meant to hold the settings data of the player.
      */
@@ -89,6 +103,7 @@ public abstract class KissenUserImplementation implements UserImplementation {
         this.cachedProfiles = new HashSet<>();
         this.pluginSettings = new HashSet<>();
         this.tickExecutor = Executors.newScheduledThreadPool(1);
+        this.rankExpiries = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -108,7 +123,8 @@ public abstract class KissenUserImplementation implements UserImplementation {
         KissenConfirmationImplementation confirmation = KissenCore.getInstance().getImplementation(clazz);
 
         Runnable runnable = () -> {
-            getOnlineUser().stream().filter(userEntry -> userEntry.getStorage().containsKey("tick")).forEach(user -> {
+            User[] users = getOnlineUserSnapshot();
+            Arrays.stream(users).filter(userEntry -> userEntry.getStorage().containsKey("tick")).forEach(user -> {
                 KissenUser<? extends AbstractPermission> casted = (KissenUser<? extends AbstractPermission>) user;
                 try {
                     casted.tick();
@@ -120,28 +136,48 @@ public abstract class KissenUserImplementation implements UserImplementation {
         };
 
         this.tickExecutor.scheduleAtFixedRate(runnable, 0, 1, TimeUnit.SECONDS);
+        Arrays.stream(getOnlineUserSnapshot()).forEach(this::indexRank); // the online users persist when reloading
+
+        if (isSessionPersistence()) {
+            ConfigurationImplementation config = KissenCore.getInstance().getImplementation(ConfigurationImplementation.class);
+            long interval = config.getSetting(SessionFlushInterval.class);
+            this.tickExecutor.scheduleWithFixedDelay(this::flushOnlineUsers, interval, interval, TimeUnit.SECONDS);
+            log.info("Session persistence is enabled, changes of online users are written every {} second(s).", interval);
+        }
         return UserImplementation.super.postStart();
     }
 
     @Override
     public void stop() {
         this.tickExecutor.shutdown();
+        flushOnlineUsers();
     }
 
     @Override
     public @NotNull @Unmodifiable Set<User> getOnlineUser() {
-        return Collections.unmodifiableSet(onlineUserSet);
+        return onlineUsers.getView();
+    }
+
+    /**
+     * Returns all online users as an array, which is meant for iterating over them without creating a stream or an
+     * iterator.
+     *
+     * <p>The array is shared and replaced whenever a user logs in or out, so it must not be modified.
+     *
+     * @return the users online at the time of the call.
+     */
+    public @NotNull User[] getOnlineUserSnapshot() {
+        return onlineUsers.getSnapshot();
     }
 
     @Override
     public @NotNull Optional<User> getOnlineUser(@NotNull UUID uuid) {
-        return getOnlineUser().stream().filter(userEntry -> Objects.equals(userEntry.getRawID(), uuid)).findFirst();
+        return onlineUsers.get(uuid);
     }
 
     @Override
     public @NotNull User getUser(@NotNull String name) throws BackendException {
-        Predicate<User> nameEquals = user -> Objects.equals(user.getName(), name);
-        return getOnlineUser().stream().filter(nameEquals).findFirst().orElseGet(() -> {
+        return onlineUsers.get(name).orElseGet(() -> {
             //TODO make this work someday
             throw new BackendException();
         });
@@ -258,39 +294,37 @@ public abstract class KissenUserImplementation implements UserImplementation {
     }
 
     /**
-     * Loads a given user into the online user set.
-     * <p>
-     * The method starts by converting the raw ID of the provided User object into a UUID and then searches for the user with this UUID in the current online users. This is done using the getOnlineUser() function.
+     * Loads a given user into the online users.
      * <p>
-     * If the user is already present online, the method checks if the user's storage contains the 'tick' attribute. In such a case, the user is considered as already loaded and the method returns false immediately, indicating that it failed to load the user anew.
+     * The user is indexed by its uuid and its name. If another instance of the same user is online already, it is
+     * replaced by the given one.
      * <p>
-     * If the user's storage doesn't contain the 'tick' attribute, the method proceeds to remove the present user from onlineUserSet. This is done by invoking the removeIf method on the 'getOnlineUserSet', passing in a lambda that checks user raw id equality.
-     * <p>
-     * After the previous user instance has been removed (if it was present and not already loaded), the provided User object is added to the onlineUserSet collection.
-     * <p>
-     * In the end, the method returns true, indicating that the user was successfully loaded into the online users set.
+     * In the end, the method returns true, indicating that the user was successfully loaded into the online users.
      *
      * @param user the User object that is to be loaded into the online users; not null
      * @return boolean indicating whether user data was successfully loaded into online users (true if loaded, otherwise false)
      */
     public boolean loadUser(@NotNull User user) {
-        Optional<User> userOptional = getOnlineUser(user.getRawID());
-        if (userOptional.isPresent()) {
-            onlineUserSet.removeIf(currentUser -> currentUser.getRawID().equals(user.getRawID()));
-        }
-        onlineUserSet.add(user);
+        onlineUsers.add(user);
         return true;
     }
 
     /**
-     * Login a user if the user is contained in onlineUserSet.
+     * Login a user if the user has been loaded into the online users.
      *
      * @param user a User entity representing the user to login
      * @return true if the user was successfully logged in, false otherwise
      */
     public boolean loginUser(@NotNull User user) {
-        if (getOnlineUser().contains(user)) {
+        if (getOnlineUser(user.getRawID()).filter(user::equals).isPresent()) {
+            if (isSessionPersistence()) {
+                StorageImplementation storage = KissenCore.getInstance().getImplementation(StorageImplementation.class);
+                ((KissenUser<?>) user).beginSession(((KissenStorageImplementation) storage).getSessionJournal());
+            }
             ((KissenUser<?>) user).login();
+            onlineUsers.rename(user); // the name may have been updated while logging in
+            indexRank(user);
+            ((KissenUser<?>) user).clearCache(); // precomputes the permission snapshot now that the user is online
             return true;
         }
         return false;
@@ -305,11 +339,71 @@ public abstract class KissenUserImplementation implements UserImplementation {
     public boolean logoutUser(@NotNull User user) {
         if (getOnlineUser(user.getRawID()).isPresent()) {
             ((KissenUser<?>) user).logout();
-            return onlineUserSet.removeIf(userEntry -> userEntry.getRawID().equals(user.getRawID()));
+            ((KissenUser<?>) user).endSession();
+            getMembershipIndex().indexRank(((KissenUser<?>) user).getPermissionID(), null);
+            scheduleRankExpiry(user, null);
+            return onlineUsers.remove(user);
         }
         return false;
     }
 
+    /**
+     * Indexes the current rank of the given user, making the user a member of the permission group called like it.
+     *
+     * <p>If the rank is temporary, it is indexed again once it expires, through the expiry scheduler of the
+     * permissions. This way, the rank of an online user never has to be polled.
+     *
+     * @param user the online user whose rank is indexed.
+     * @return {@code true} if the rank differs from the one indexed before.
+     * @see PermissionMembershipIndex#indexRank(String, String)
+     */
+    public boolean indexRank(@NotNull User user) {
+        AbstractPlayerRank<?> rank = user.getPlayerClient().getRank();
+        scheduleRankExpiry(user, rank.getEnd().orElse(null));
+        return getMembershipIndex().indexRank(((KissenUser<?>) user).getPermissionID(), rank.getSource().getName());
+    }
+
+    private void scheduleRankExpiry(@NotNull User user, @Nullable Instant end) {
+        PermissionExpiryScheduler scheduler = KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class).getExpiryScheduler();
+        ScheduledFuture<?> expiry = end == null ? null : scheduler.schedule(() -> expireRank(user.getRawID()), end);
+        ScheduledFuture<?> previous = expiry == null ? rankExpiries.remove(user.getRawID()) : rankExpiries.put(user.getRawID(), expiry);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void expireRank(@NotNull UUID uuid) {
+        getOnlineUser(uuid).ifPresent(user -> {
+            if (indexRank(user)) {
+                ((KissenUser<?>) user).permissionUpdate();
+            }
+        });
+    }
+
+    private static @NotNull PermissionMembershipIndex getMembershipIndex() {
+        return KissenCore.getInstance().getImplementation(InternalKissenPermissionImplementation.class).getMembershipIndex();
+    }
+
+    /**
+     * Writes the pending changes of all online users to the database.
+     * <p>
+     * This is only relevant when session persistence is enabled, otherwise every change has already been written.
+     * Exceptions are logged per user, so a single failing user does not prevent the others from being written.
+     */
+    public void flushOnlineUsers() {
+        for (User user : getOnlineUserSnapshot()) {
+            try {
+                ((KissenUser<?>) user).flush();
+            } catch (Exception exception) {
+                log.error("Failed to write the pending changes of user {}.", user.getRawID(), exception);
+            }
+        }
+    }
+
+    private boolean isSessionPersistence() {
+        return KissenCore.getInstance().getImplementation(ConfigurationImplementation.class).getSetting(SessionPersistence.class);
+    }
+
     public void cacheProfile(@NotNull UserInfoNode userInfoNode) {
         if (getCachedProfiles().stream().anyMatch(current -> current.uuid().equals(userInfoNode.uuid()) && current.name().equals(userInfoNode.name()))) {
             return;
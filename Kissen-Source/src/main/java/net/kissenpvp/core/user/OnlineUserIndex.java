@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.user;
+
+import net.kissenpvp.core.api.user.User;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * The index of the users which are currently online.
+ *
+ * <p>Users are stored by their uuid and by their lower-cased name, so both lookups run in constant time. Users whose
+ * names only differ by case share the same entry, which is resolved when a user is looked up by name. In addition,
+ * an array and an unmodifiable set of all online users are kept, which are replaced as a whole whenever a user is added
+ * or removed. Iterating over them therefore requires no lock and never fails because of a concurrent login or logout.
+ */
+public class OnlineUserIndex {
+
+    private static final User[] EMPTY = new User[0];
+
+    private final Map<UUID, User> byId;
+    private final Map<String, List<User>> byName;
+    private final Map<UUID, String> names;
+    private volatile User[] snapshot;
+    private volatile Set<User> view;
+
+    public OnlineUserIndex() {
+        this.byId = new ConcurrentHashMap<>();
+        this.byName = new ConcurrentHashMap<>();
+        this.names = new HashMap<>();
+        this.snapshot = EMPTY;
+        this.view = Collections.emptySet();
+    }
+
+    /**
+     * Adds the given user, replacing another instance of the same user.
+     *
+     * @param user the user which is online.
+     * @return the instance of the user which has been replaced, or {@code null} if the user was not online.
+     */
+    public synchronized @Nullable User add(@NotNull User user) {
+        User previous = byId.put(user.getRawID(), user);
+        if (previous != null) {
+            unindexName(previous, names.get(previous.getRawID()));
+        }
+        indexName(user);
+        update();
+        return previous;
+    }
+
+    /**
+     * Indexes the current name of the given user again, as it might have changed since the user was added.
+     *
+     * @param user the online user.
+     */
+    public synchronized void rename(@NotNull User user) {
+        if (byId.get(user.getRawID()) != user) {
+            return;
+        }
+        unindexName(user, names.get(user.getRawID()));
+        indexName(user);
+    }
+
+    /**
+     * Removes the user with the uuid of the given user.
+     *
+     * @param user the user which went offline.
+     * @return {@code true} if the user was online.
+     */
+    public synchronized boolean remove(@NotNull User user) {
+        User removed = byId.remove(user.getRawID());
+        if (removed == null) {
+            return false;
+        }
+        unindexName(removed, names.remove(removed.getRawID()));
+        update();
+        return true;
+    }
+
+    public @NotNull Optional<User> get(@NotNull UUID uuid) {
+        return Optional.ofNullable(byId.get(uuid));
+    }
+
+    /**
+     * Returns the online user with the given name, ignoring its case.
+     *
+     * <p>If several online users have names which only differ by case, the one whose name matches exactly is returned.
+     * Otherwise, the one which has been indexed first is returned.
+     *
+     * @param name the name of the user.
+     * @return the user, or an empty optional if no user with this name is online.
+     */
+    public @NotNull Optional<User> get(@NotNull String name) {
+        List<User> users = byName.get(name.toLowerCase(Locale.ROOT));
+        if (users == null) {
+            return Optional.empty();
+        }
+        if (users.size() == 1) {
+            return Optional.of(users.get(0));
+        }
+        return users.stream().filter(user -> user.getName().equals(name)).findFirst().or(() -> Optional.of(users.get(0)));
+    }
+
+    /**
+     * Returns all online users as an array which is replaced instead of modified, so it must not be modified either.
+     *
+     * @return the online users at the time of the call.
+     */
+    public @NotNull User[] getSnapshot() {
+        return snapshot;
+    }
+
+    public @NotNull @Unmodifiable Set<User> getView() {
+        return view;
+    }
+
+    private void indexName(@NotNull User user) {
+        String name = user.getName().toLowerCase(Locale.ROOT);
+        names.put(user.getRawID(), name);
+        byName.merge(name, List.of(user), (users, added) -> Stream.concat(users.stream(), added.stream()).toList());
+    }
+
+    private void unindexName(@NotNull User user, @Nullable String name) {
+        if (name == null) {
+            return;
+        }
+        byName.computeIfPresent(name, (key, users) -> {
+            List<User> remaining = users.stream().filter(current -> current != user).toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    private void update() {
+        User[] users = byId.values().toArray(EMPTY);
+        snapshot = users;
+        view = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(users)));
+    }
+}
@@ -0,0 +1,69 @@
+package net.kissenpvp.core.base;
+
+import net.kissenpvp.core.api.base.Implementation;
+import net.kissenpvp.core.api.base.plugin.KissenPlugin;
+import net.kissenpvp.core.api.networking.client.entitiy.ConsoleClient;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A core which only loads the given implementations and does not start them, as neither a configuration nor a
+ * database is available in tests. Creating it makes it the {@linkplain KissenCore#getInstance() instance} of the core.
+ */
+public class KissenCoreMock extends KissenCore {
+
+    private final Map<Class<? extends Implementation>, Implementation> implementations;
+
+    public KissenCoreMock(@NotNull Map<Class<? extends Implementation>, Implementation> implementations) {
+        this.implementations = implementations;
+        initialize();
+    }
+
+    @Override
+    protected void loadImplementations(@NotNull Map<Class<? extends Implementation>, Implementation> loader) {
+        loader.putAll(implementations);
+    }
+
+    @Override
+    protected void startImplementations() {
+        /* ignored */
+    }
+
+    @Override
+    public @NotNull Optional<KissenPlugin> getPlugin(@NotNull String plugin) {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull KissenPlugin[] getPlugins() {
+        return new KissenPlugin[0];
+    }
+
+    @Override
+    public void runTask(@NotNull KissenPlugin kissenPlugin, @NotNull Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public int getPort() {
+        return 0;
+    }
+
+    @Override
+    public boolean isOnline(@NotNull UUID uuid) {
+        return false;
+    }
+
+    @Override
+    public boolean isOnline(@NotNull String name) {
+        return false;
+    }
+
+    @Override
+    public @NotNull ConsoleClient getConsole() {
+        throw new UnsupportedOperationException();
+    }
+}
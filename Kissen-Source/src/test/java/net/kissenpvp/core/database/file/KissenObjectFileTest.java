@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.file;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+class KissenObjectFileTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void appendAndReload() throws IOException, ClassNotFoundException {
+        File file = new File(directory, "cache");
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            objectFile.put("first", "a");
+            objectFile.put("second", 2);
+            objectFile.put("first", "b");
+            Assertions.assertTrue(objectFile.delete("second"));
+            Assertions.assertFalse(objectFile.delete("second"));
+            objectFile.put("third", new HashMap<>(Map.of("key", "value")));
+        }
+
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Assertions.assertEquals(Set.of("first", "third"), objectFile.keys());
+            Assertions.assertEquals("b", objectFile.get("first"));
+            Assertions.assertNull(objectFile.get("second"));
+            Assertions.assertEquals(Map.of("key", "value"), objectFile.get("third"));
+        }
+    }
+
+    @Test
+    void tornRecordIsDropped() throws IOException, ClassNotFoundException {
+        File file = new File(directory, "cache");
+        long intact;
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            objectFile.put("first", "a");
+            objectFile.sync();
+            intact = file.length();
+            objectFile.put("second", "b");
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(file.length() - 3); // the process died while appending the second record
+        }
+
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Assertions.assertEquals(Set.of("first"), objectFile.keys());
+            Assertions.assertEquals(intact, file.length());
+            objectFile.put("third", "c");
+        }
+
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Assertions.assertEquals(Set.of("first", "third"), objectFile.keys());
+            Assertions.assertEquals("c", objectFile.get("third"));
+        }
+    }
+
+    @Test
+    void corruptRecordIsDropped() throws IOException, ClassNotFoundException {
+        File file = new File(directory, "cache");
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            objectFile.put("first", "a");
+            objectFile.put("second", "b");
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer checksum = ByteBuffer.allocate(1);
+            channel.read(checksum, channel.size() - 1);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) ~checksum.get(0)}), channel.size() - 1);
+        }
+
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Assertions.assertEquals(Set.of("first"), objectFile.keys());
+            Assertions.assertEquals("a", objectFile.get("first"));
+        }
+    }
+
+    @Test
+    void legacyFileIsMigrated() throws IOException, ClassNotFoundException {
+        File file = new File(directory, "cache");
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(new FileOutputStream(file))) {
+            objectOutputStream.writeObject(new HashMap<>(Map.of("first", "a", "second", 2)));
+        }
+
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Assertions.assertEquals(Set.of("first", "second"), objectFile.keys());
+            Assertions.assertEquals("a", objectFile.get("first"));
+            objectFile.put("second", 3);
+        }
+
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Assertions.assertEquals(3, objectFile.get("second")); // opened as record log, not migrated again
+        }
+        Assertions.assertFalse(new File(directory, "cache.tmp").exists());
+    }
+
+    @Test
+    void compactWhileWriting() throws Exception {
+        File file = new File(directory, "cache");
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Future<?>[] futures = IntStream.range(0, 4).mapToObj(writer -> writers.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    objectFile.put("key_" + writer + "_" + (i % 10), i);
+                    if (i % 50 == 0) {
+                        objectFile.delete("key_" + writer + "_0");
+                    }
+                }
+                return null;
+            })).toArray(Future[]::new);
+
+            while (!Arrays.stream(futures).allMatch(Future::isDone)) {
+                objectFile.compact(); // interleaves with the writers, as every method holds the monitor
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            objectFile.compact();
+            Assertions.assertEquals(40, objectFile.keys().size());
+        } finally {
+            writers.shutdownNow();
+        }
+
+        try (KissenObjectFile objectFile = new KissenObjectFile(file)) {
+            Assertions.assertEquals(40, objectFile.keys().size());
+            for (int writer = 0; writer < 4; writer++) {
+                for (int key = 0; key < 10; key++) {
+                    Assertions.assertEquals(240 + key, objectFile.get("key_" + writer + "_" + key));
+                }
+            }
+        }
+    }
+}
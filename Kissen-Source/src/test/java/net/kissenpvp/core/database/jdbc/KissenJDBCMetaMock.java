@@ -1,18 +1,31 @@
 package net.kissenpvp.core.database.jdbc;
 
 import net.kissenpvp.core.api.base.plugin.KissenPlugin;
+import net.kissenpvp.core.api.database.connection.DatabaseDriver;
 import net.kissenpvp.core.api.database.connection.PreparedStatementExecutor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class KissenJDBCMetaMock extends KissenNativeJDBCMeta {
 
+    private final DatabaseDriver driver;
+
     public KissenJDBCMetaMock() {
         this(null);
     }
 
     public KissenJDBCMetaMock(@Nullable KissenPlugin plugin) {
+        this(plugin, DatabaseDriver.MYSQL);
+    }
+
+    public KissenJDBCMetaMock(@Nullable KissenPlugin plugin, @NotNull DatabaseDriver driver) {
         super(new TableMock(), plugin);
+        this.driver = driver;
+    }
+
+    @Override
+    public @NotNull DatabaseDriver getDriver() {
+        return driver;
     }
 
     @Override
@@ -1,22 +1,41 @@
 package net.kissenpvp.core.database.jdbc;
 
 import net.kissenpvp.core.TestData;
+import net.kissenpvp.core.api.database.connection.DatabaseDriver;
 import net.kissenpvp.core.api.database.meta.Meta;
 import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.SortDirection;
 import net.kissenpvp.core.api.database.queryapi.select.QuerySelect;
 import net.kissenpvp.core.api.database.queryapi.update.QueryUpdate;
 import net.kissenpvp.core.api.database.queryapi.update.Update;
 import net.kissenpvp.core.base.KissenPluginMock;
+import net.kissenpvp.core.database.jdbc.query.JDBCAggregateQueryExecutor;
+import net.kissenpvp.core.database.jdbc.query.JDBCCompareAndSetQueryExecutor;
+import net.kissenpvp.core.database.jdbc.query.JDBCIncrementQueryExecutor;
 import net.kissenpvp.core.database.jdbc.query.JDBCSelectQueryExecutor;
 import net.kissenpvp.core.database.jdbc.query.JDBCUpdateQueryExecutor;
+import net.kissenpvp.core.database.queryapi.KissenAggregate;
+import net.kissenpvp.core.database.queryapi.KissenQueryCursor;
+import net.kissenpvp.core.database.queryapi.KissenQueryPage;
+import net.kissenpvp.core.database.queryapi.KissenQueryPublisher;
 import net.kissenpvp.core.database.queryapi.KissenQuerySelect;
 import net.kissenpvp.core.database.queryapi.KissenQueryUpdate;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 class KissenJDBCMetaTest extends net.kissenpvp.core.Test {
@@ -31,6 +50,52 @@ class KissenJDBCMetaTest extends net.kissenpvp.core.Test {
         return Stream.of(new TestData<>(meta.select(Column.TOTAL_ID), "SELECT total_id FROM test WHERE plugin = ?;"), new TestData<>(meta.select(Column.TOTAL_ID, Column.KEY), "SELECT total_id, key FROM test WHERE plugin = ?;"), new TestData<>(meta.select(Column.VALUE, Column.TOTAL_ID, Column.KEY, Column.KEY).where(Column.TOTAL_ID, ""), "SELECT plugin, type, value, total_id, key, key FROM test WHERE (total_id REGEXP ?) AND plugin = ?;"), new TestData<>(meta.select(Column.TOTAL_ID, Column.VALUE).where(Column.KEY, "").and(Column.TOTAL_ID, ""), "SELECT total_id, plugin, type, value FROM test WHERE (key REGEXP ? AND total_id REGEXP ?) AND plugin = ?;"));
     }
 
+    private static @NotNull Stream<TestData<Object, String>> selectPagedQueries() {
+        Meta meta = new KissenJDBCMetaMock();
+        return Stream.of(
+                new TestData<>(meta.select(Column.TOTAL_ID).limit(5), "SELECT total_id FROM test WHERE plugin IS NULL LIMIT ?;"),
+                new TestData<>(meta.select(Column.TOTAL_ID).offset(10), "SELECT total_id FROM test WHERE plugin IS NULL LIMIT ? OFFSET ?;"),
+                new TestData<>(meta.select(Column.TOTAL_ID, Column.KEY).orderBy(Column.KEY, SortDirection.DESCENDING), "SELECT total_id, key FROM test WHERE plugin IS NULL ORDER BY key DESC;"),
+                new TestData<>(meta.select(Column.TOTAL_ID).where(Column.KEY, "").orderBy(Column.TOTAL_ID, SortDirection.ASCENDING).orderBy(Column.KEY, SortDirection.DESCENDING).limit(5).offset(10), "SELECT total_id FROM test WHERE (key REGEXP ?) AND plugin IS NULL ORDER BY total_id ASC, key DESC LIMIT ? OFFSET ?;"));
+    }
+
+    private static @NotNull Stream<TestData<Object, String>> selectKeysetQueries() {
+        Meta meta = new KissenJDBCMetaMock();
+        String cursor = new KissenQueryCursor("user_1", "name").encode();
+        return Stream.of(
+                new TestData<>(meta.select(Column.VALUE).limit(5), "SELECT plugin, type, value, total_id, key FROM test WHERE plugin IS NULL ORDER BY total_id ASC, key ASC LIMIT ?;"),
+                new TestData<>(meta.select(Column.TOTAL_ID).after(cursor), "SELECT total_id, total_id, key FROM test WHERE plugin IS NULL AND (total_id > ? OR (total_id = ? AND key > ?)) ORDER BY total_id ASC, key ASC;"),
+                new TestData<>(meta.select(Column.KEY).where(Column.TOTAL_ID, "^user_").after(cursor).limit(10), "SELECT key, total_id, key FROM test WHERE (total_id REGEXP ?) AND plugin IS NULL AND (total_id > ? OR (total_id = ? AND key > ?)) ORDER BY total_id ASC, key ASC LIMIT ?;"));
+    }
+
+    private static @NotNull Stream<TestData<Object, String>> selectValueQueries() {
+        Meta meta = new KissenJDBCMetaMock();
+        return Stream.of(
+                new TestData<>(meta.select(Column.TOTAL_ID).whereValueEquals("name").andExact(Column.KEY, "total_id"), "SELECT total_id FROM test WHERE (JSON_EXTRACT(value, '$') = JSON_EXTRACT(?, '$') AND key REGEXP ?) AND plugin IS NULL;"),
+                new TestData<>(meta.select(Column.TOTAL_ID).where(Column.KEY, "ip").andValueContains("127.0.0.1"), "SELECT total_id FROM test WHERE (key REGEXP ? AND JSON_CONTAINS(value, ?)) AND plugin IS NULL;"));
+    }
+
+    private static @NotNull Stream<TestData<Object, String>> selectSQLiteValueQueries() {
+        Meta sqlite = new KissenJDBCMetaMock(null, DatabaseDriver.SQLITE);
+        return Stream.of(
+                new TestData<>(sqlite.select(Column.TOTAL_ID).whereValueEquals("name"), "SELECT total_id FROM test WHERE (json_extract(value, '$') = json_extract(?, '$')) AND plugin IS NULL;"),
+                new TestData<>(sqlite.select(Column.TOTAL_ID).whereValueContains("127.0.0.1"), "SELECT total_id FROM test WHERE (EXISTS (SELECT 1 FROM json_each(test.value) AS element WHERE element.value = json_extract(?, '$'))) AND plugin IS NULL;"));
+    }
+
+    private static @NotNull Stream<TestData<Object, String>> selectInQueries() {
+        Meta meta = new KissenJDBCMetaMock();
+        return Stream.of(
+                new TestData<>(meta.select(Column.TOTAL_ID, Column.KEY, Column.VALUE).whereIn(Column.TOTAL_ID, List.of("a")), "SELECT total_id, key, plugin, type, value FROM test WHERE (total_id IN (?)) AND plugin IS NULL;"),
+                new TestData<>(meta.select(Column.VALUE).whereIn(Column.TOTAL_ID, List.of("a", "b", "c")).andIn(Column.KEY, Set.of("name")), "SELECT plugin, type, value FROM test WHERE (total_id IN (?, ?, ?, ?) AND key IN (?)) AND plugin IS NULL;"));
+    }
+
+    private static @NotNull Stream<TestData<Object, String>> selectDistinctQueries() {
+        Meta meta = new KissenJDBCMetaMock();
+        return Stream.of(
+                new TestData<>(meta.selectDistinct(Column.TOTAL_ID), "SELECT DISTINCT total_id FROM test WHERE plugin IS NULL;"),
+                new TestData<>(meta.selectDistinct(Column.KEY).where(Column.TOTAL_ID, "^user_").orderBy(Column.KEY, SortDirection.ASCENDING).limit(5), "SELECT DISTINCT key FROM test WHERE (total_id REGEXP ?) AND plugin IS NULL ORDER BY key ASC LIMIT ?;"));
+    }
+
     private static @NotNull Stream<TestData<Object, String>> updateInternalQueries() {
         Meta meta = new KissenJDBCMetaMock();
         return Stream.of(
@@ -62,6 +127,262 @@ class KissenJDBCMetaTest extends net.kissenpvp.core.Test {
         testSelectData(new KissenJDBCMetaMock(new KissenPluginMock()), data);
     }
 
+    @ParameterizedTest
+    @MethodSource("selectPagedQueries")
+    void testSelectPagedQueries(@NotNull TestData<Object, String> data) {
+        testSelectData(new KissenJDBCMetaMock(), data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectKeysetQueries")
+    void testSelectKeysetQueries(@NotNull TestData<Object, String> data) {
+        testSelectData(new KissenJDBCMetaMock(), data, true);
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectValueQueries")
+    void testSelectValueQueries(@NotNull TestData<Object, String> data) {
+        testSelectData(new KissenJDBCMetaMock(), data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectSQLiteValueQueries")
+    void testSelectSQLiteValueQueries(@NotNull TestData<Object, String> data) {
+        testSelectData(new KissenJDBCMetaMock(null, DatabaseDriver.SQLITE), data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectInQueries")
+    void testSelectInQueries(@NotNull TestData<Object, String> data) {
+        testSelectData(new KissenJDBCMetaMock(), data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectDistinctQueries")
+    void testSelectDistinctQueries(@NotNull TestData<Object, String> data) {
+        testSelectData(new KissenJDBCMetaMock(), data);
+    }
+
+    @org.junit.jupiter.api.Test
+    void testDistinctSelect() {
+        KissenJDBCMeta meta = new KissenJDBCMetaMock();
+        JDBCSelectQueryExecutor distinct = new JDBCSelectQueryExecutor(meta.selectDistinct(Column.TOTAL_ID).where(Column.KEY, "name"), meta);
+        JDBCSelectQueryExecutor plain = new JDBCSelectQueryExecutor(meta.select(Column.TOTAL_ID).where(Column.KEY, "name"), meta);
+
+        Assertions.assertNotEquals(distinct.getShape(), plain.getShape());
+        Assertions.assertNotEquals(distinct.getCountShape(), plain.getCountShape());
+        Assertions.assertEquals("SELECT COUNT(DISTINCT total_id) FROM test WHERE (key REGEXP ?) AND plugin IS NULL;", distinct.constructCountSQL());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> meta.selectDistinct(Column.VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> meta.selectDistinct(Column.TOTAL_ID).orderBy(Column.KEY, SortDirection.ASCENDING));
+        Assertions.assertThrows(IllegalStateException.class, () -> meta.selectDistinct(Column.TOTAL_ID).limit(5).executePage());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testAggregateQueries() {
+        KissenJDBCMeta meta = new KissenJDBCMetaMock(new KissenPluginMock());
+        JDBCAggregateQueryExecutor executor = new JDBCAggregateQueryExecutor("kills", meta);
+        Assertions.assertEquals("SELECT MAX(CAST(JSON_EXTRACT(value, '$') AS DECIMAL(65, 10))) FROM test WHERE (key IN (?)) AND plugin = ? AND JSON_TYPE(value) IN ('INTEGER', 'UNSIGNED INTEGER', 'DOUBLE', 'DECIMAL');", executor.constructSQL(KissenAggregate.MAX));
+        Assertions.assertEquals("SELECT total_id, CAST(JSON_EXTRACT(value, '$') AS DECIMAL(65, 10)) FROM test WHERE (key IN (?)) AND plugin = ? AND JSON_TYPE(value) IN ('INTEGER', 'UNSIGNED INTEGER', 'DOUBLE', 'DECIMAL') ORDER BY 2 DESC LIMIT ?;", executor.constructTopSQL());
+
+        List<String> values = new ArrayList<>();
+        executor.bind(values);
+        Assertions.assertEquals(List.of("kills", new KissenPluginMock().getName()), values);
+
+        JDBCAggregateQueryExecutor sqlite = new JDBCAggregateQueryExecutor("kills", new KissenJDBCMetaMock(null, DatabaseDriver.SQLITE));
+        Assertions.assertEquals("SELECT SUM(json_extract(value, '$')) FROM test WHERE (key IN (?)) AND plugin IS NULL AND json_type(value) IN ('integer', 'real');", sqlite.constructSQL(KissenAggregate.SUM));
+        Assertions.assertNotEquals(sqlite.getShape(KissenAggregate.SUM), sqlite.getShape(KissenAggregate.MIN));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> meta.topN("kills", -1));
+        Assertions.assertTrue(meta.topN("kills", 0).join().isEmpty());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testIncrementQueries() {
+        KissenJDBCMeta meta = new KissenJDBCMetaMock(new KissenPluginMock());
+        JDBCIncrementQueryExecutor executor = new JDBCIncrementQueryExecutor("user_1", "kills", meta);
+        Assertions.assertEquals("UPDATE test SET value = JSON_EXTRACT(JSON_ARRAY(JSON_EXTRACT(value, '$') + ?), '$[0]') WHERE (total_id IN (?) AND key IN (?)) AND plugin = ? AND JSON_TYPE(value) IN ('INTEGER', 'UNSIGNED INTEGER', 'DOUBLE', 'DECIMAL');", executor.constructSQL());
+
+        List<String> values = new ArrayList<>();
+        executor.bind(values);
+        Assertions.assertEquals(List.of("user_1", "kills", new KissenPluginMock().getName()), values);
+        Assertions.assertEquals(executor.getShape(), new JDBCIncrementQueryExecutor("user_2", "deaths", meta).getShape());
+
+        JDBCIncrementQueryExecutor sqlite = new JDBCIncrementQueryExecutor("user_1", "kills", new KissenJDBCMetaMock(null, DatabaseDriver.SQLITE));
+        Assertions.assertEquals("UPDATE test SET value = json_extract(value, '$') + ? WHERE (total_id IN (?) AND key IN (?)) AND plugin IS NULL AND json_type(value) IN ('integer', 'real');", sqlite.constructSQL());
+
+        Assertions.assertEquals("INSERT INTO test (total_id, key, plugin, type, value) VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE value = IF(JSON_TYPE(value) IN ('INTEGER', 'UNSIGNED INTEGER', 'DOUBLE', 'DECIMAL'), JSON_EXTRACT(JSON_ARRAY(JSON_EXTRACT(value, '$') + ?), '$[0]'), value);", executor.constructUpsertSQL());
+        Assertions.assertEquals("INSERT INTO test (total_id, key, plugin, type, value) VALUES (?, ?, ?, ?, ?) ON CONFLICT (total_id, key, IFNULL(plugin, '')) DO UPDATE SET value = json_extract(value, '$') + ? WHERE json_type(value) IN ('integer', 'real');", sqlite.constructUpsertSQL());
+
+        List<String> upsert = new ArrayList<>();
+        executor.bindUpsert(upsert, new String[]{"java.lang.Long", "5"});
+        Assertions.assertEquals(List.of("user_1", "kills", new KissenPluginMock().getName(), "java.lang.Long", "5"), upsert);
+        Assertions.assertNotEquals(executor.getShape(), executor.getUpsertShape());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testCompareAndSetQuery() {
+        KissenJDBCMeta meta = new KissenJDBCMetaMock();
+        JDBCCompareAndSetQueryExecutor executor = new JDBCCompareAndSetQueryExecutor("user_1", "state", "pending", "accepted", meta);
+        Assertions.assertEquals("UPDATE test SET type = ?, value = ? WHERE (total_id IN (?) AND key IN (?) AND JSON_EXTRACT(value, '$') = JSON_EXTRACT(?, '$')) AND plugin IS NULL AND type = ?;", executor.constructSQL());
+
+        List<String> values = new ArrayList<>();
+        executor.bind(values);
+        Assertions.assertEquals(List.of("java.lang.String", "\"accepted\"", "user_1", "state", "\"pending\"", "java.lang.String"), values);
+        Assertions.assertEquals(executor.getShape(), new JDBCCompareAndSetQueryExecutor("user_2", "count", 1, 2L, meta).getShape());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testPagination() {
+        KissenJDBCMeta meta = new KissenJDBCMetaMock();
+        JDBCSelectQueryExecutor first = new JDBCSelectQueryExecutor(meta.select(Column.TOTAL_ID).limit(5).offset(10), meta);
+        JDBCSelectQueryExecutor second = new JDBCSelectQueryExecutor(meta.select(Column.TOTAL_ID).limit(20).offset(40), meta);
+        Assertions.assertEquals(first.getShape(), second.getShape()); // pages share their statement
+        Assertions.assertArrayEquals(new long[]{5, 10}, first.bindPagination());
+        Assertions.assertArrayEquals(new long[]{20, 40}, second.bindPagination());
+
+        Assertions.assertArrayEquals(new long[]{Long.MAX_VALUE, 10}, new JDBCSelectQueryExecutor(meta.select(Column.TOTAL_ID).offset(10), meta).bindPagination());
+        Assertions.assertArrayEquals(new long[0], new JDBCSelectQueryExecutor(meta.select(Column.TOTAL_ID).orderBy(Column.KEY, SortDirection.ASCENDING), meta).bindPagination());
+        Assertions.assertArrayEquals(new long[]{6}, new JDBCSelectQueryExecutor(meta.select(Column.TOTAL_ID).limit(5), meta, true).bindPagination());
+        Assertions.assertNotEquals(first.getShape(), new JDBCSelectQueryExecutor(meta.select(Column.TOTAL_ID).limit(5), meta).getShape());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testInFilter() {
+        KissenJDBCMeta meta = new KissenJDBCMetaMock();
+        JDBCSelectQueryExecutor two = new JDBCSelectQueryExecutor(meta.select(Column.VALUE).whereIn(Column.TOTAL_ID, List.of("a", "b")), meta);
+        JDBCSelectQueryExecutor three = new JDBCSelectQueryExecutor(meta.select(Column.VALUE).whereIn(Column.TOTAL_ID, List.of("a", "b", "c")), meta);
+        JDBCSelectQueryExecutor four = new JDBCSelectQueryExecutor(meta.select(Column.VALUE).whereIn(Column.TOTAL_ID, List.of("a", "b", "c", "d")), meta);
+        Assertions.assertNotEquals(two.getShape(), three.getShape());
+        Assertions.assertEquals(three.getShape(), four.getShape()); // rounded up to the next power of two
+        Assertions.assertEquals(four.constructSQL(), three.constructSQL());
+
+        List<String> values = new ArrayList<>();
+        three.bind(values);
+        Assertions.assertEquals(List.of("a", "b", "c", "c"), values);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> meta.select(Column.VALUE).whereIn(Column.TOTAL_ID, List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> meta.select(Column.VALUE).whereIn(Column.VALUE, List.of("a")));
+    }
+
+    @org.junit.jupiter.api.Test
+    void testQueryPage() {
+        Object[][] rows = {{"a", "user_1", "name"}, {"b", "user_1", "rank"}, {"c", "user_2", "name"}};
+
+        KissenQueryPage page = KissenQueryPage.of(rows, 2);
+        Assertions.assertArrayEquals(new Object[][]{{"a"}, {"b"}}, page.getRows());
+        Assertions.assertEquals(new KissenQueryCursor("user_1", "rank"), KissenQueryCursor.decode(Objects.requireNonNull(page.getContinuation())));
+
+        KissenQueryPage last = KissenQueryPage.of(rows, 3);
+        Assertions.assertEquals(3, last.getRows().length);
+        Assertions.assertFalse(last.hasNext());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testQueryPublisher() {
+        Object[][] rows = {{"a", "user_1", "name"}, {"b", "user_1", "rank"}, {"c", "user_2", "name"}};
+        List<String> fetched = new ArrayList<>();
+        KissenQueryPublisher publisher = new KissenQueryPublisher(null, cursor -> {
+            fetched.add(String.valueOf(cursor));
+            int start = cursor == null ? 0 : 2;
+            return CompletableFuture.completedFuture(KissenQueryPage.of(Arrays.copyOfRange(rows, start, Math.min(start + 3, rows.length)), 2));
+        });
+
+        List<Object> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription value) {
+                subscription.set(value);
+            }
+
+            @Override
+            public void onNext(Object[] item) {
+                received.add(item[0]);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Assertions.fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+
+        Assertions.assertTrue(fetched.isEmpty());
+        subscription.get().request(2);
+        Assertions.assertEquals(List.of("a", "b"), received);
+        Assertions.assertEquals(1, fetched.size());
+
+        subscription.get().request(5);
+        Assertions.assertEquals(List.of("a", "b", "c"), received);
+        Assertions.assertEquals(2, fetched.size());
+        Assertions.assertTrue(completed.get());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testStreamBatches() {
+        Object[][] rows = IntStream.range(0, 1200).mapToObj(i -> new Object[]{i, String.format("user_%04d", i), "kills"}).toArray(Object[][]::new);
+        List<Integer> limits = new ArrayList<>();
+        KissenJDBCMeta meta = new KissenJDBCMetaMock() {
+            @Override
+            protected @NotNull CompletableFuture<Object[][]> executeKeyset(@NotNull QuerySelect querySelect) {
+                limits.add(querySelect.getLimit());
+                String after = querySelect.getCursor() == null ? "" : KissenQueryCursor.decode(querySelect.getCursor()).totalId();
+                Object[][] page = Arrays.stream(rows).filter(row -> row[1].toString().compareTo(after) > 0).limit(querySelect.getLimit() + 1L).toArray(Object[][]::new);
+                return CompletableFuture.completedFuture(page);
+            }
+        };
+
+        QuerySelect all = meta.select(Column.VALUE).where(Column.KEY, "kills");
+        try (Stream<Object[]> stream = all.stream()) {
+            Assertions.assertEquals(1200, stream.count());
+        }
+        Assertions.assertEquals(List.of(500, 500, 500), limits);
+        Assertions.assertEquals(-1, all.getLimit());
+        Assertions.assertNull(all.getCursor());
+
+        limits.clear();
+        QuerySelect limited = meta.select(Column.VALUE).where(Column.KEY, "kills").limit(700);
+        try (Stream<Object[]> stream = limited.stream()) {
+            Assertions.assertEquals(699, stream.mapToInt(row -> (int) row[0]).max().orElseThrow());
+        }
+        Assertions.assertEquals(List.of(500, 200), limits);
+        Assertions.assertEquals(700, limited.getLimit());
+        Assertions.assertNull(limited.getCursor());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testCountAndExistsQueries() {
+        Meta meta = new KissenJDBCMetaMock();
+        QuerySelect select = meta.select(Column.VALUE).where(Column.TOTAL_ID, "^user_").orderBy(Column.KEY, SortDirection.ASCENDING).limit(5);
+        JDBCSelectQueryExecutor executor = new JDBCSelectQueryExecutor(select, new KissenJDBCMetaMock());
+
+        Assertions.assertEquals("SELECT COUNT(*) FROM test WHERE (total_id REGEXP ?) AND plugin IS NULL;", executor.constructCountSQL());
+        Assertions.assertEquals("SELECT 1 FROM test WHERE (total_id REGEXP ?) AND plugin IS NULL LIMIT 1;", executor.constructExistsSQL());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testQueryShape() {
+        KissenJDBCMeta meta = new KissenJDBCMetaMock(new KissenPluginMock());
+        JDBCSelectQueryExecutor first = new JDBCSelectQueryExecutor(meta.select(Column.VALUE).where(Column.TOTAL_ID, "a").and(Column.KEY, "b"), meta);
+        JDBCSelectQueryExecutor second = new JDBCSelectQueryExecutor(meta.select(Column.VALUE).where(Column.TOTAL_ID, "c").and(Column.KEY, "d"), meta);
+        JDBCSelectQueryExecutor other = new JDBCSelectQueryExecutor(meta.select(Column.VALUE).where(Column.TOTAL_ID, "a").or(Column.KEY, "b"), meta);
+
+        Assertions.assertEquals(first.getShape(), second.getShape());
+        Assertions.assertNotEquals(first.getShape(), other.getShape());
+        Assertions.assertNotEquals(first.getShape(), first.getCountShape());
+
+        List<String> values = new ArrayList<>();
+        second.bind(values);
+        Assertions.assertEquals(meta.getQueryPlan(first.getShape(), first::constructSQL), meta.getQueryPlan(second.getShape(), () -> Assertions.fail("The plan was not cached.")));
+        Assertions.assertEquals(List.of("c", "d", new KissenPluginMock().getName()), values);
+    }
+
     @ParameterizedTest
     @MethodSource("updateInternalQueries")
     void testUpdateInternalQueries(@NotNull TestData<Object, String> data) {
@@ -75,6 +396,10 @@ class KissenJDBCMetaTest extends net.kissenpvp.core.Test {
     }
 
     private void testSelectData(@NotNull KissenJDBCMeta meta, @NotNull TestData<Object, String> data) {
+        testSelectData(meta, data, false);
+    }
+
+    private void testSelectData(@NotNull KissenJDBCMeta meta, @NotNull TestData<Object, String> data, boolean keyset) {
         QuerySelect select = null;
 
         if (data.request() instanceof KissenQuerySelect.KissenRootQuerySelect rootQueryComponent) {
@@ -85,7 +410,7 @@ class KissenJDBCMetaTest extends net.kissenpvp.core.Test {
             Assumptions.abort("Request is not a known type of query");
         }
 
-        JDBCSelectQueryExecutor executor = new JDBCSelectQueryExecutor(select, meta);
+        JDBCSelectQueryExecutor executor = new JDBCSelectQueryExecutor(select, meta, keyset);
         test(Eval.eval(select, data.expected(), Validator.equals()), request -> executor.constructSQL(new ArrayList<>()));
     }
 
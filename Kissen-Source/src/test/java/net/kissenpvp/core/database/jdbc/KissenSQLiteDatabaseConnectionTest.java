@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.jdbc;
+
+import net.kissenpvp.core.api.database.meta.BackendException;
+import net.kissenpvp.core.api.database.meta.Meta;
+import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.SortDirection;
+import net.kissenpvp.core.base.KissenPluginMock;
+import net.kissenpvp.core.database.KissenTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+class KissenSQLiteDatabaseConnectionTest {
+
+    @TempDir
+    File directory;
+    private KissenSQLiteDatabaseConnection connection;
+    private KissenTable table;
+
+    @BeforeEach
+    void setUp() {
+        connection = new KissenSQLiteDatabaseConnection("test", "jdbc:sqlite:" + new File(directory, "test.db").getAbsolutePath());
+        connection.connect();
+        table = (KissenTable) connection.createTable("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connection.disconnect();
+    }
+
+    @Test
+    void incrementCreatesKeyOnce() {
+        Meta meta = table.setupMeta(null);
+        CompletableFuture.allOf(IntStream.range(0, 20).mapToObj(i -> meta.increment("user_1", "kills", 2)).toArray(CompletableFuture[]::new)).join();
+
+        Assertions.assertEquals(40, meta.getLong("user_1", "kills").join());
+        Assertions.assertEquals(1, meta.select(Column.KEY).where(Column.TOTAL_ID, "user_1").execute().join().length);
+    }
+
+    @Test
+    void incrementKeepsPluginsApart() {
+        Meta internal = table.setupMeta(null), plugin = table.setupMeta(new KissenPluginMock());
+        internal.increment("user_1", "kills", 5).join();
+        plugin.increment("user_1", "kills", 3).join();
+        plugin.increment("user_1", "kills", 3).join();
+
+        Assertions.assertEquals(5, internal.getLong("user_1", "kills").join());
+        Assertions.assertEquals(6, plugin.getLong("user_1", "kills").join());
+    }
+
+    @Test
+    void incrementRejectsText() {
+        Meta meta = table.setupMeta(null);
+        meta.setString("user_1", "name", "Steve");
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> meta.increment("user_1", "name", 1).join());
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Assertions.assertEquals("Steve", meta.getString("user_1", "name").join());
+    }
+
+    @Test
+    void compareAndSetComparesType() {
+        Meta meta = table.setupMeta(null);
+        meta.setLong("user_1", "kills", 5L);
+
+        Assertions.assertFalse(meta.compareAndSet("user_1", "kills", 5, 6).join()); // same json, but an integer
+        Assertions.assertFalse(meta.compareAndSet("user_1", "kills", 4L, 6L).join());
+        Assertions.assertTrue(meta.compareAndSet("user_1", "kills", 5L, 6L).join());
+        Assertions.assertEquals(6, meta.getLong("user_1", "kills").join());
+    }
+
+    @Test
+    void selectBindsPagination() {
+        Meta meta = table.setupMeta(null);
+        IntStream.range(0, 10).forEach(i -> meta.setString("user_" + i, "name", "name_" + i));
+
+        Object[][] page = meta.select(Column.TOTAL_ID).orderBy(Column.TOTAL_ID, SortDirection.ASCENDING).limit(3).offset(2).execute().join();
+        Assertions.assertArrayEquals(new Object[][]{{"user_2"}, {"user_3"}, {"user_4"}}, page);
+
+        // three values are bound to four placeholders
+        Object[][] in = meta.select(Column.TOTAL_ID).whereIn(Column.TOTAL_ID, List.of("user_1", "user_5", "user_7")).orderBy(Column.TOTAL_ID, SortDirection.ASCENDING).execute().join();
+        Assertions.assertArrayEquals(new Object[][]{{"user_1"}, {"user_5"}, {"user_7"}}, in);
+    }
+
+    @Test
+    void uniqueIndexRejectsDuplicates() {
+        Meta meta = table.setupMeta(null);
+        meta.addMap("user_1", Map.of("kills", 1));
+
+        // internal rows have no plugin, which the index must not treat as distinct
+        Assertions.assertThrows(BackendException.class, () -> meta.addMap("user_1", Map.of("kills", 2)));
+        Assertions.assertDoesNotThrow(() -> table.setupMeta(new KissenPluginMock()).addMap("user_1", Map.of("kills", 2)));
+
+        connection.createTable("test"); // the index already exists
+    }
+}
@@ -0,0 +1,35 @@
+package net.kissenpvp.core.database.jdbc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A meta which stores nothing and counts the values written per key instead, remembering the last value of each key.
+ */
+public class RecordingMetaMock extends KissenJDBCMetaMock {
+
+    private final Map<String, AtomicInteger> writes = new ConcurrentHashMap<>();
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    @Override
+    protected void setJson(@NotNull String totalID, @NotNull String key, @Nullable Object object) {
+        writes.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        if (object == null) {
+            values.remove(key);
+        } else {
+            values.put(key, object);
+        }
+    }
+
+    public int getWrites(@NotNull String key) {
+        return writes.getOrDefault(key, new AtomicInteger()).get();
+    }
+
+    public @Nullable Object getValue(@NotNull String key) {
+        return values.get(key);
+    }
+}
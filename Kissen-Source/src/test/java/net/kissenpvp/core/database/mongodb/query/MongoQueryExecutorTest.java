@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.mongodb.query;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import net.kissenpvp.core.api.base.plugin.KissenPlugin;
+import net.kissenpvp.core.api.database.queryapi.Column;
+import net.kissenpvp.core.api.database.queryapi.FilterOperator;
+import net.kissenpvp.core.api.database.queryapi.FilterQuery;
+import net.kissenpvp.core.base.KissenPluginMock;
+import net.kissenpvp.core.database.jdbc.TableMock;
+import net.kissenpvp.core.database.mongodb.KissenMongoMeta;
+import net.kissenpvp.core.database.queryapi.KissenFilterQuery;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class MongoQueryExecutorTest {
+
+    private static @NotNull MongoQueryExecutor executor(@Nullable KissenPlugin plugin) {
+        return new MongoQueryExecutor(new KissenMongoMeta(new TableMock(), plugin) {
+            @Override
+            public @NotNull MongoCollection<Document> getCollection() {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    private static void assertFilter(@NotNull Bson expected, @NotNull Bson actual) {
+        Assertions.assertEquals(expected.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()), actual.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()));
+    }
+
+    @Test
+    void testInternalScope() {
+        assertFilter(Filters.eq("plugin", null), executor(null).where(new FilterQuery[0]));
+
+        FilterQuery[] filterQueries = {new KissenFilterQuery(Column.TOTAL_ID, "user_1", FilterOperator.INIT)};
+        assertFilter(Filters.and(Filters.or(Filters.and(Filters.regex("total_id", "user_1"))), Filters.eq("plugin", null)), executor(null).where(filterQueries));
+    }
+
+    @Test
+    void testPluginScope() {
+        String plugin = new KissenPluginMock().getName();
+        assertFilter(Filters.eq("plugin", plugin), executor(new KissenPluginMock()).where(new FilterQuery[0]));
+
+        // the scope must restrict every alternative, not be one of them
+        FilterQuery[] filterQueries = {new KissenFilterQuery(Column.TOTAL_ID, "user_1", FilterOperator.INIT), new KissenFilterQuery(Column.KEY, "name", FilterOperator.OR)};
+        Bson alternatives = Filters.or(List.of(Filters.and(Filters.regex("total_id", "user_1")), Filters.and(Filters.regex("key", "name"))));
+        assertFilter(Filters.and(alternatives, Filters.eq("plugin", plugin)), executor(new KissenPluginMock()).where(filterQueries));
+    }
+}
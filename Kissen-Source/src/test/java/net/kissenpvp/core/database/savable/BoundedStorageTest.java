@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.savable;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class BoundedStorageTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        BoundedStorage storage = new BoundedStorage(6);
+        storage.put("first", 1);
+        storage.put("second", List.of(1, 2)); // weighs 3
+        storage.put("third", 3);
+        Assertions.assertEquals(5, storage.getWeight());
+
+        storage.get("first"); // second is the eldest entry now
+        storage.put("fourth", List.of(1, 2));
+        Assertions.assertEquals(Set.of("third", "first", "fourth"), storage.keySet());
+        Assertions.assertEquals(5, storage.getWeight());
+    }
+
+    @Test
+    void reweighsGrownValues() {
+        BoundedStorage storage = new BoundedStorage(5);
+        List<Integer> list = new ArrayList<>();
+        storage.put("list", list);
+        storage.put("other", 1);
+        list.addAll(List.of(1, 2, 3, 4));
+
+        storage.get("list"); // weighs 5 now, so the other entry has to go
+        Assertions.assertEquals(Set.of("list"), storage.keySet());
+        Assertions.assertEquals(5, storage.getWeight());
+    }
+
+    @Test
+    void recoversEvictedEntries() {
+        BoundedStorage storage = new BoundedStorage(2);
+        storage.put("first", "a");
+        storage.put("second", "b");
+        storage.put("third", "c");
+        Assertions.assertEquals(Set.of("second", "third"), storage.keySet());
+
+        // the value is softly referenced until the garbage collector needs the memory
+        Assertions.assertTrue(storage.containsKey("first"));
+        Assertions.assertEquals("a", storage.get("first"));
+        Assertions.assertEquals(2, storage.size());
+        Assertions.assertEquals("a", storage.remove("first"));
+        Assertions.assertNull(storage.get("first"));
+    }
+
+    @Test
+    void viewsRemoveFromStorage() {
+        BoundedStorage storage = new BoundedStorage(10);
+        storage.put("first", 1);
+        storage.put("second", List.of(1, 2));
+        storage.put("third", 3);
+
+        Assertions.assertTrue(storage.values().removeIf(value -> value instanceof List<?>));
+        Assertions.assertEquals(2, storage.getWeight());
+
+        synchronized (storage) {
+            Iterator<Map.Entry<String, Object>> iterator = storage.entrySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+        Assertions.assertEquals(Map.of("third", 3), Map.copyOf(storage));
+        Assertions.assertEquals(1, storage.getWeight());
+
+        storage.keySet().clear();
+        Assertions.assertTrue(storage.isEmpty());
+        Assertions.assertEquals(0, storage.getWeight());
+    }
+
+    @Test
+    void storageExpires() throws InterruptedException {
+        KissenStorageImplementation implementation = new KissenStorageImplementation(directory);
+        try {
+            Map<String, Object> storage = implementation.getStorage("test", Duration.ofMillis(50), 10);
+            storage.put("key", "value");
+            Assertions.assertSame(storage, implementation.getStorage("test", Duration.ofMillis(50), 10));
+
+            Thread.sleep(100);
+            Map<String, Object> renewed = implementation.getStorage("test", Duration.ofMillis(50), 10);
+            Assertions.assertNotSame(storage, renewed);
+            Assertions.assertTrue(renewed.isEmpty());
+        } finally {
+            implementation.stop();
+        }
+    }
+}
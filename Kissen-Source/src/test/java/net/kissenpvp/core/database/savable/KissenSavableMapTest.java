@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.database.savable;
+
+import net.kissenpvp.core.database.jdbc.RecordingMetaMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+class KissenSavableMapTest {
+
+    @TempDir
+    File directory;
+    private RecordingMetaMock meta;
+    private SessionJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException, ClassNotFoundException {
+        meta = new RecordingMetaMock();
+        journal = openJournal();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    void flushClearsJournal() {
+        KissenSavableMap map = new KissenSavableMap("1", meta, Map.of());
+        map.beginSession(journal);
+
+        map.set("kills", 5);
+        Assertions.assertEquals(0, meta.getWrites("kills")); // only marked as dirty
+        Assertions.assertEquals(1, journal.size());
+
+        map.flush();
+        Assertions.assertEquals(1, meta.getWrites("kills"));
+        Assertions.assertEquals(5, meta.getValue("kills"));
+        Assertions.assertEquals(0, journal.size());
+
+        map.flush();
+        Assertions.assertEquals(1, meta.getWrites("kills")); // nothing is dirty anymore
+    }
+
+    @Test
+    void endSessionClearsJournal() {
+        KissenSavableMap map = new KissenSavableMap("1", meta, Map.of());
+        map.beginSession(journal);
+        map.set("kills", 5);
+        map.set("deaths", 2);
+
+        map.endSession();
+        Assertions.assertEquals(1, meta.getWrites("kills"));
+        Assertions.assertEquals(1, meta.getWrites("deaths"));
+        Assertions.assertEquals(0, journal.size());
+
+        map.set("kills", 6);
+        Assertions.assertEquals(2, meta.getWrites("kills")); // written through once the session ended
+        Assertions.assertEquals(0, journal.size());
+    }
+
+    @Test
+    void recoverAfterCrash() throws IOException, ClassNotFoundException {
+        KissenSavableMap map = new KissenSavableMap("1", meta, Map.of());
+        map.beginSession(journal);
+        map.set("kills", 5);
+        map.set("name", "Steve");
+        map.delete("name");
+        new KissenSavableMap("2", meta, Map.of()).set("kills", 3);
+        journal.close(); // the server stops without flushing the session
+
+        journal = openJournal();
+        KissenSavableMap other = new KissenSavableMap("2", meta, Map.of());
+        journal.recover(other);
+        Assertions.assertEquals(2, journal.size()); // only the entries of the recovered repository are touched
+
+        KissenSavableMap recovered = new KissenSavableMap("1", meta, Map.of("name", "Alex"));
+        journal.recover(recovered);
+        Assertions.assertEquals(5, recovered.get("kills"));
+        Assertions.assertFalse(recovered.containsKey("name"));
+        Assertions.assertEquals(5, meta.getValue("kills"));
+        Assertions.assertEquals(0, journal.size());
+
+        journal.close();
+        journal = openJournal();
+        Assertions.assertEquals(0, journal.size()); // the recovered entries are not replayed again
+    }
+
+    private SessionJournal openJournal() throws IOException, ClassNotFoundException {
+        return new SessionJournal(new File(directory, ".sessionjournal"));
+    }
+}
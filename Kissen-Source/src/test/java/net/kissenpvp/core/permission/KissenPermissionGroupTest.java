@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.base.Implementation;
+import net.kissenpvp.core.api.database.StorageImplementation;
+import net.kissenpvp.core.api.time.AccurateDuration;
+import net.kissenpvp.core.api.user.UserImplementation;
+import net.kissenpvp.core.base.KissenCore;
+import net.kissenpvp.core.base.KissenCoreMock;
+import net.kissenpvp.core.database.savable.KissenStorageImplementation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+class KissenPermissionGroupTest {
+
+    @TempDir
+    File directory;
+    private PermissionImplementationMock implementation;
+    private KissenCore core;
+
+    @BeforeEach
+    void setUp() {
+        implementation = new PermissionImplementationMock();
+        core = new KissenCoreMock(Map.<Class<? extends Implementation>, Implementation>of(
+                InternalKissenPermissionImplementation.class, implementation,
+                StorageImplementation.class, new KissenStorageImplementation(directory),
+                UserImplementation.class, Mockito.mock(UserImplementation.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        core.shutdown();
+    }
+
+    @Test
+    void snapshotMetricsAreRecorded() {
+        TestPermissionGroup group = implementation.create("admin");
+        group.setPermission("kissen.fly");
+        group.setPermission("kissen.build");
+        long builds = implementation.getSnapshotBuilds(), permissions = implementation.getSnapshotPermissions();
+
+        Assertions.assertTrue(group.hasPermission("kissen.fly"));
+        Assertions.assertTrue(group.hasPermission("kissen.build"));
+
+        Assertions.assertEquals(builds + 1, implementation.getSnapshotBuilds());
+        Assertions.assertEquals(permissions + 2, implementation.getSnapshotPermissions());
+        Assertions.assertFalse(implementation.getSnapshotBuildTime().isNegative());
+    }
+
+    @Test
+    void memberSeesPermissionAddedToGroup() {
+        TestPermissionGroup admin = implementation.create("admin");
+        TestPermissionGroup member = implementation.create("member");
+        admin.addMember(member);
+        Assertions.assertFalse(member.hasPermission("kissen.fly"));
+        int invalidations = member.getInvalidations();
+
+        admin.setPermission("kissen.fly");
+
+        Assertions.assertTrue(member.hasPermission("kissen.fly"));
+        Assertions.assertTrue(member.getInvalidations() > invalidations);
+    }
+
+    @Test
+    void expiryRebuildsDependents() throws InterruptedException {
+        TestPermissionGroup admin = implementation.create("admin");
+        TestPermissionGroup member = implementation.create("member");
+        admin.addMember(member);
+        admin.setPermission(new PermissionNode("kissen.fly", admin, true, new AccurateDuration(100)));
+        Assertions.assertTrue(member.hasPermission("kissen.fly"));
+        int invalidations = member.getInvalidations();
+
+        // both snapshots contain the temporary permission, so both of them expire
+        List<Runnable> expiries = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Runnable expiry = implementation.getExpiries().poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(expiry);
+            expiries.add(expiry);
+        }
+        Assertions.assertTrue(member.hasPermission("kissen.fly")); // nothing is updated before the dispatched updates run
+
+        expiries.forEach(Runnable::run);
+
+        Assertions.assertFalse(admin.hasPermission("kissen.fly"));
+        Assertions.assertFalse(member.hasPermission("kissen.fly"));
+        Assertions.assertEquals(invalidations + 2, member.getInvalidations()); // its own expiry and the one of its group
+    }
+}
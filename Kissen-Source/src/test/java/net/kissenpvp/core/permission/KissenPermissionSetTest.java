@@ -0,0 +1,51 @@
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.time.TemporalData;
+import net.kissenpvp.core.api.util.Container;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+class KissenPermissionSetTest {
+
+    @Contract(pure = true, value = "_, _ -> new")
+    private static @NotNull TestPermission testPermission(@NotNull String name, boolean value) {
+        PermissionNode node = new PermissionNode(name, "test", new Container<>(value), new HashMap<>(), new TemporalData());
+        return new TestPermission(node, null);
+    }
+
+    @Test
+    void firstAddedTakesPrecedence() {
+        TestPermission own = testPermission("kissen.rank", true);
+        TestPermission inherited = testPermission("kissen.rank", false);
+        TestPermission other = testPermission("kissen.other", false);
+
+        Set<TestPermission> permissions = new KissenPermissionSet<>(List.of(own));
+        Assertions.assertTrue(permissions.addAll(List.of(inherited, other, testPermission("kissen.other", true))));
+
+        List<TestPermission> list = List.copyOf(permissions);
+        Assertions.assertEquals(2, list.size());
+        Assertions.assertSame(own, list.get(0));
+        Assertions.assertSame(other, list.get(1));
+        Assertions.assertFalse(permissions.add(inherited));
+    }
+
+    @Test
+    void remove() {
+        TestPermission own = testPermission("kissen.rank", true);
+        Set<TestPermission> permissions = new KissenPermissionSet<>(List.of(own));
+
+        Assertions.assertFalse(permissions.remove(testPermission("kissen.other", true)));
+        Assertions.assertTrue(permissions.remove(own));
+        Assertions.assertTrue(permissions.isEmpty());
+
+        TestPermission replacement = testPermission("kissen.rank", false);
+        Assertions.assertTrue(permissions.add(replacement));
+        Assertions.assertSame(replacement, permissions.iterator().next());
+    }
+}
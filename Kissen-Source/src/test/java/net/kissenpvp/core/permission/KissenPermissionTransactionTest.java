@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.base.Implementation;
+import net.kissenpvp.core.api.database.StorageImplementation;
+import net.kissenpvp.core.api.permission.AbstractPermission;
+import net.kissenpvp.core.api.time.AccurateDuration;
+import net.kissenpvp.core.api.time.TemporalData;
+import net.kissenpvp.core.api.user.UserImplementation;
+import net.kissenpvp.core.base.KissenCore;
+import net.kissenpvp.core.base.KissenCoreMock;
+import net.kissenpvp.core.database.savable.KissenStorageImplementation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class KissenPermissionTransactionTest {
+
+    @TempDir
+    File directory;
+    private PermissionImplementationMock implementation;
+    private KissenCore core;
+
+    @BeforeEach
+    void setUp() {
+        implementation = new PermissionImplementationMock();
+        core = new KissenCoreMock(Map.<Class<? extends Implementation>, Implementation>of(
+                InternalKissenPermissionImplementation.class, implementation,
+                StorageImplementation.class, new KissenStorageImplementation(directory),
+                UserImplementation.class, Mockito.mock(UserImplementation.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        core.shutdown();
+    }
+
+    @Test
+    void editIsWrittenOnce() {
+        TestPermissionGroup group = implementation.create("admin");
+        group.setPermission("kissen.fly");
+        group.setPermission("kissen.build");
+        int writes = implementation.getMeta().getWrites("permission_list"), invalidations = group.getInvalidations();
+
+        group.edit(transaction -> {
+            transaction.setPermission("kissen.chat");
+            transaction.unsetPermission("kissen.fly");
+            transaction.wipePermissions();
+            transaction.setPermission("kissen.kick");
+            transaction.setPermission("kissen.ban", false);
+        });
+
+        Assertions.assertEquals(writes + 1, implementation.getMeta().getWrites("permission_list"));
+        Assertions.assertEquals(invalidations + 1, group.getInvalidations());
+        Assertions.assertEquals(Set.of("kissen.kick", "kissen.ban"), group.getPermissionList().stream().map(AbstractPermission::getName).collect(Collectors.toSet()));
+        Assertions.assertTrue(group.hasPermission("kissen.kick"));
+        Assertions.assertFalse(group.hasPermission("kissen.ban"));
+        Assertions.assertFalse(group.hasPermission("kissen.build"));
+    }
+
+    @Test
+    void failedEditWritesNothing() {
+        TestPermissionGroup group = implementation.create("admin");
+        group.setPermission("kissen.fly");
+        int writes = implementation.getMeta().getWrites("permission_list"), invalidations = group.getInvalidations();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> group.edit(transaction -> {
+            transaction.setPermission("kissen.build");
+            transaction.unsetPermission("kissen.fly");
+            throw new IllegalStateException();
+        }));
+
+        Assertions.assertEquals(writes, implementation.getMeta().getWrites("permission_list"));
+        Assertions.assertEquals(invalidations, group.getInvalidations());
+        Assertions.assertTrue(group.hasPermission("kissen.fly"));
+        Assertions.assertFalse(group.hasPermission("kissen.build"));
+    }
+
+    @Test
+    void valueChangeKeepsNodeData() {
+        TestPermissionGroup group = implementation.create("admin");
+        TemporalData temporalData = new TemporalData(new AccurateDuration(60000));
+        group.setPermission(new PermissionNode("kissen.fly", group, true, Map.of("world", "lobby"), temporalData));
+
+        group.edit(transaction -> transaction.setPermission("kissen.fly", false));
+
+        TestPermission permission = group.getPermission("kissen.fly").orElseThrow();
+        Assertions.assertFalse(permission.getValue());
+        Assertions.assertEquals("lobby", permission.getOption("world"));
+        Assertions.assertEquals(Instant.ofEpochMilli(temporalData.start()), permission.getStart());
+        Assertions.assertEquals(Optional.of(Instant.ofEpochMilli(temporalData.end().getValue())), permission.getEnd());
+    }
+}
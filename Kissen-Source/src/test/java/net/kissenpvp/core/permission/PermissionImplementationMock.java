@@ -0,0 +1,66 @@
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.permission.AbstractPermissionGroup;
+import net.kissenpvp.core.database.jdbc.RecordingMetaMock;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A permission implementation holding its groups in memory, whose repositories write to a {@link RecordingMetaMock}.
+ * The updates of expired permissions are queued, so tests run them like the main thread of a platform would.
+ */
+public class PermissionImplementationMock extends InternalKissenPermissionImplementation<TestPermission> implements InternalPermissionImplementation<TestPermission> {
+
+    private final RecordingMetaMock meta = new RecordingMetaMock();
+    private final Map<String, TestPermissionGroup> groups = new ConcurrentHashMap<>();
+    private final BlockingQueue<Runnable> expiries = new LinkedBlockingQueue<>();
+
+    @Override
+    public @NotNull RecordingMetaMock getMeta() {
+        return meta;
+    }
+
+    public @NotNull BlockingQueue<Runnable> getExpiries() {
+        return expiries;
+    }
+
+    @Override
+    protected void runExpiry(@NotNull Runnable update) {
+        expiries.add(update);
+    }
+
+    @Override
+    public void addPermission(@NotNull String permission) {
+        /* ignored */
+    }
+
+    @Override
+    public @NotNull TestPermissionGroup create(@NotNull String name) {
+        TestPermissionGroup group = new TestPermissionGroup();
+        group.setup(name);
+        groups.put(name, group);
+        return group;
+    }
+
+    @Override
+    public @NotNull Optional<AbstractPermissionGroup<?>> getPermissionGroupSavable(@NotNull String name) {
+        return Optional.ofNullable(groups.get(name));
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Set<AbstractPermissionGroup<TestPermission>> getInternalGroups() {
+        return Set.copyOf(groups.values());
+    }
+
+    @Override
+    public void removePermissionGroup(@NotNull String name) {
+        groups.remove(name);
+    }
+}
@@ -0,0 +1,45 @@
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.time.TemporalData;
+import net.kissenpvp.core.api.util.Container;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+
+class PermissionSnapshotTest {
+
+    @Contract(pure = true, value = "_, _ -> new")
+    private static @NotNull TestPermission testPermission(@NotNull String name, @Nullable Instant end) {
+        TemporalData temporalData = new TemporalData(0, (Long) null, end == null ? null : end.toEpochMilli());
+        PermissionNode node = new PermissionNode(name, "test", new Container<>(true), new HashMap<>(), temporalData);
+        return new TestPermission(node, null);
+    }
+
+    @Test
+    void expiredPermissionsAreLeftOut() {
+        Instant now = Instant.now();
+        TestPermission permanent = testPermission("kissen.permanent", null);
+        TestPermission expired = testPermission("kissen.expired", now.minusSeconds(60));
+        TestPermission later = testPermission("kissen.later", now.plusSeconds(3600));
+        TestPermission soon = testPermission("kissen.soon", now.plusSeconds(60));
+
+        PermissionSnapshot<TestPermission> snapshot = PermissionSnapshot.collect(() -> List.of(permanent, expired, later, soon));
+
+        Assertions.assertEquals(3, snapshot.size());
+        Assertions.assertNull(snapshot.resolve("kissen.expired"));
+        Assertions.assertSame(soon, snapshot.resolve("kissen.soon"));
+        Assertions.assertEquals(now.plusSeconds(60).toEpochMilli(), snapshot.getNextExpiry().toEpochMilli());
+    }
+
+    @Test
+    void noExpiry() {
+        PermissionSnapshot<TestPermission> snapshot = PermissionSnapshot.collect(() -> List.of(testPermission("kissen.permanent", null)));
+        Assertions.assertNull(snapshot.getNextExpiry());
+    }
+}
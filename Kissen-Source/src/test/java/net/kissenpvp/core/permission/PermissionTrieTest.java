@@ -0,0 +1,60 @@
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.time.TemporalData;
+import net.kissenpvp.core.api.util.Container;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+class PermissionTrieTest {
+
+    private static final List<String> PERMISSIONS = List.of("minecraft.command.gamemode", "minecraft.comman?.gamemode", "minecraft*gamemode", "minec*", "minecraft.c?ommand.gamemode", "minecraft.command.*", "minecraft.command.", "*", "kissen.?", "kissen.rank.admin", "kissen.rank", "");
+
+    private static final List<String> CHECKS = List.of("minecraft.command.gamemode", "minecraft.command", "minecraft.command.", "minecraft.command.gamemode.other", "minecraft.commanx.gamemode", "minecraft", "minec", "kissen.a", "kissen.ab", "kissen.rank", "kissen.rank.admin", "kissen.rank.mod", "other.permission", "", ".", "a..b");
+
+    @Contract(pure = true, value = "_, _ -> new")
+    private static @NotNull TestPermission testPermission(@NotNull String name, boolean value) {
+        PermissionNode node = new PermissionNode(name, "test", new Container<>(value), new HashMap<>(), new TemporalData());
+        return new TestPermission(node, null); // the owner is not relevant for resolving
+    }
+
+    private static @Nullable TestPermission expected(@NotNull List<TestPermission> permissions, @NotNull String permission) {
+        Stream<TestPermission> matching = permissions.stream().filter(current -> PermissionTrie.matches(current.getName(), permission, 0));
+        return matching.max(Comparator.comparing(TestPermission::getName)).orElse(null);
+    }
+
+    @Test
+    void resolve() {
+        for (int i = 0; i <= PERMISSIONS.size(); i++) {
+            // drop a different permission each round, so each of them is once the deciding one
+            int dropped = i;
+            List<TestPermission> permissions = PERMISSIONS.stream().filter(name -> PERMISSIONS.indexOf(name) != dropped).map(name -> testPermission(name, name.length() % 2 == 0)).toList();
+            PermissionTrie<TestPermission> trie = new PermissionTrie<>(permissions);
+
+            for (String check : CHECKS) {
+                Assertions.assertSame(expected(permissions, check), trie.resolve(check), check);
+            }
+        }
+    }
+
+    @Test
+    void matches() {
+        Assertions.assertTrue(PermissionTrie.matches("minecraft.comman?.gamemode", "minecraft.command.gamemode", 0));
+        Assertions.assertTrue(PermissionTrie.matches("minecraft*gamemode", "minecraft.command.gamemode", 0));
+        Assertions.assertTrue(PermissionTrie.matches("*gamemode", "minecraft.command.gamemode", 18));
+        Assertions.assertFalse(PermissionTrie.matches("minecraft.c?ommand.gamemode", "minecraft.command.gamemode", 0));
+        Assertions.assertFalse(PermissionTrie.matches("minecraft.c?ommand.gamemode", "minecraft.c", 0));
+    }
+
+    @Test
+    void empty() {
+        Assertions.assertNull(new PermissionTrie<TestPermission>(List.of()).resolve("minecraft.command.gamemode"));
+    }
+}
@@ -1,5 +1,6 @@
 package net.kissenpvp.core.permission;
 
+import net.kissenpvp.core.api.database.DataWriter;
 import net.kissenpvp.core.api.permission.AbstractPermission;
 import net.kissenpvp.core.api.permission.AbstractPermissionEntry;
 
@@ -9,4 +10,9 @@ public class TestPermission extends KissenPermission
     {
         super(permissionNode, permissionEntry, (record) -> {}); // no data persistence
     }
+
+    public TestPermission(PermissionNode permissionNode, AbstractPermissionEntry<? extends AbstractPermission> permissionEntry, DataWriter<PermissionNode> dataWriter)
+    {
+        super(permissionNode, permissionEntry, dataWriter);
+    }
 }
@@ -0,0 +1,26 @@
+package net.kissenpvp.core.permission;
+
+import net.kissenpvp.core.api.database.DataWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestPermissionGroup extends KissenPermissionGroup<TestPermission> {
+
+    private final AtomicInteger invalidations = new AtomicInteger();
+
+    public int getInvalidations() {
+        return invalidations.get();
+    }
+
+    @Override
+    protected void permissionsInvalidated() {
+        invalidations.incrementAndGet();
+    }
+
+    @Override
+    protected @NotNull TestPermission translatePermission(@NotNull PermissionNode permissionNode, @Nullable DataWriter<PermissionNode> dataWriter) {
+        return new TestPermission(permissionNode, this, dataWriter);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.user;
+
+import net.kissenpvp.core.api.database.meta.BackendException;
+import net.kissenpvp.core.api.user.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+
+class KissenUserImplementationTest {
+
+    // the online users are static, so every test uses names which no other test uses
+    private final KissenUserImplementation implementation = Mockito.mock(KissenUserImplementation.class, Mockito.CALLS_REAL_METHODS);
+
+    @Test
+    void getUserIgnoresCase() {
+        String name = name();
+        User user = user(name);
+        implementation.loadUser(user);
+
+        Assertions.assertSame(user, implementation.getUser(name));
+        Assertions.assertSame(user, implementation.getUser(name.toUpperCase()));
+        Assertions.assertSame(user, implementation.getUser(name.toLowerCase()));
+    }
+
+    @Test
+    void getUserPrefersExactCase() {
+        String name = name();
+        User upper = user(name.toUpperCase()), lower = user(name.toLowerCase());
+        implementation.loadUser(upper);
+        implementation.loadUser(lower);
+
+        Assertions.assertSame(upper, implementation.getUser(name.toUpperCase()));
+        Assertions.assertSame(lower, implementation.getUser(name.toLowerCase()));
+        Assertions.assertEquals(2, implementation.getOnlineUser().stream().filter(user -> user.getName().equalsIgnoreCase(name)).count());
+    }
+
+    @Test
+    void getUserThrowsIfOffline() {
+        Assertions.assertThrows(BackendException.class, () -> implementation.getUser(name()));
+    }
+
+    private static String name() {
+        return "Steve" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static User user(String name) {
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getRawID()).thenReturn(UUID.randomUUID());
+        Mockito.when(user.getName()).thenReturn(name);
+        return user;
+    }
+}
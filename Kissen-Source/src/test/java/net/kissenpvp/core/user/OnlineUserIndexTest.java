@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2023 KissenPvP
+ *
+ * This program is licensed under the Apache License, Version 2.0.
+ *
+ * This software may be redistributed and/or modified under the terms
+ * of the Apache License as published by the Apache Software Foundation,
+ * either version 2 of the License, or (at your option) any later version.
+ *
+ * This program is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the Apache
+ * License, Version 2.0 for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * You should have received a copy of the Apache License, Version 2.0
+ * along with this program. If not, see <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+package net.kissenpvp.core.user;
+
+import net.kissenpvp.core.api.user.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.UUID;
+
+class OnlineUserIndexTest {
+
+    @Test
+    void addReplacesInstance() {
+        OnlineUserIndex index = new OnlineUserIndex();
+        UUID uuid = UUID.randomUUID();
+        User first = user(uuid, "Steve"), second = user(uuid, "Alex");
+
+        Assertions.assertNull(index.add(first));
+        Assertions.assertSame(first, index.add(second));
+
+        Assertions.assertEquals(Optional.of(second), index.get(uuid));
+        Assertions.assertEquals(Optional.of(second), index.get("alex"));
+        Assertions.assertEquals(Optional.empty(), index.get("steve"));
+        Assertions.assertArrayEquals(new User[]{second}, index.getSnapshot());
+    }
+
+    @Test
+    void renameIndexesNewName() {
+        OnlineUserIndex index = new OnlineUserIndex();
+        User user = user(UUID.randomUUID(), "Steve");
+        index.add(user);
+
+        Mockito.when(user.getName()).thenReturn("Alex");
+        index.rename(user);
+
+        Assertions.assertEquals(Optional.empty(), index.get("Steve"));
+        Assertions.assertEquals(Optional.of(user), index.get("Alex"));
+    }
+
+    @Test
+    void renameIgnoresReplacedInstance() {
+        OnlineUserIndex index = new OnlineUserIndex();
+        UUID uuid = UUID.randomUUID();
+        User replaced = user(uuid, "Steve"), current = user(uuid, "Steve");
+        index.add(replaced);
+        index.add(current);
+
+        Mockito.when(replaced.getName()).thenReturn("Alex");
+        index.rename(replaced);
+
+        Assertions.assertEquals(Optional.empty(), index.get("Alex"));
+        Assertions.assertEquals(Optional.of(current), index.get("Steve"));
+    }
+
+    @Test
+    void removeUnindexesName() {
+        OnlineUserIndex index = new OnlineUserIndex();
+        User user = user(UUID.randomUUID(), "Steve");
+        index.add(user);
+
+        Assertions.assertTrue(index.remove(user));
+        Assertions.assertFalse(index.remove(user));
+
+        Assertions.assertEquals(Optional.empty(), index.get(user.getRawID()));
+        Assertions.assertEquals(Optional.empty(), index.get("Steve"));
+        Assertions.assertEquals(0, index.getSnapshot().length);
+        Assertions.assertTrue(index.getView().isEmpty());
+    }
+
+    @Test
+    void namesDifferingByCaseAreKept() {
+        OnlineUserIndex index = new OnlineUserIndex();
+        User upper = user(UUID.randomUUID(), "Steve"), lower = user(UUID.randomUUID(), "steve");
+        index.add(upper);
+        index.add(lower);
+
+        Assertions.assertEquals(Optional.of(upper), index.get("Steve"));
+        Assertions.assertEquals(Optional.of(lower), index.get("steve"));
+        Assertions.assertEquals(Optional.of(upper), index.get("STEVE")); // the first indexed user without an exact match
+
+        index.remove(upper);
+
+        Assertions.assertEquals(Optional.of(lower), index.get("Steve"));
+    }
+
+    private static User user(UUID uuid, String name) {
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getRawID()).thenReturn(uuid);
+        Mockito.when(user.getName()).thenReturn(name);
+        return user;
+    }
+}